@@ -1,5 +1,9 @@
 package com.chess.chess;
 
+import com.chess.chess.engine.Evaluator;
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.MoveGenerator;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -7,7 +11,21 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class ChessApplication {
 
 	public static void main(String[] args) {
+		initializeTablesInBackground();
 		SpringApplication.run(ChessApplication.class, args);
 	}
 
+	// Attack, Zobrist and piece-square tables are built by class initialization; doing that (and the first
+	// interpreted move generation) on its own thread overlaps it with Spring's startup instead of the first request.
+	private static void initializeTablesInBackground() {
+		Thread thread = new Thread(() -> {
+			Board board = Fen.parse(Fen.INITIAL_POSITION);
+			int[] moves = new int[MoveGenerator.MAX_MOVES];
+			board.makeMove(moves[MoveGenerator.generateLegal(board, moves) - 1]);
+			Evaluator.evaluate(board);
+		}, "table-initializer");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
 }
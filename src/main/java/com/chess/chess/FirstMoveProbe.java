@@ -0,0 +1,44 @@
+package com.chess.chess;
+
+import com.chess.chess.session.GameService;
+import com.chess.chess.session.GameView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+
+// With chess.startup.first-move-probe=true the application plays one move as soon as it is ready, logs how long
+// after JVM start that was and exits. The AppCDS training run uses it so the archive covers the classes a move
+// needs, and StartupBenchmark waits for its log line.
+@Component
+@ConditionalOnProperty("chess.startup.first-move-probe")
+public class FirstMoveProbe implements ApplicationListener<ApplicationReadyEvent> {
+
+    static final String MESSAGE = "First legal move played";
+
+    private static final Logger log = LoggerFactory.getLogger(FirstMoveProbe.class);
+
+    private final GameService gameService;
+
+    public FirstMoveProbe(GameService gameService) {
+        this.gameService = gameService;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        GameView game = gameService.create();
+        boolean legal = gameService.move(game.id(), "e2e4").legal();
+        long elapsed = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        gameService.delete(game.id());
+        if (!legal) {
+            throw new IllegalStateException("e2e4 was rejected in the initial position");
+        }
+        log.info("{} {} ms after JVM start", MESSAGE, elapsed);
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -0,0 +1,20 @@
+package com.chess.chess.book;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class BookConfiguration {
+
+    // Mapped when the engine is first built, together with the rest of it.
+    @Lazy
+    @Bean
+    public OpeningBook openingBook(@Value("${chess.book.path}") String path) throws IOException {
+        return path.isBlank() ? OpeningBook.empty() : OpeningBook.open(Path.of(path));
+    }
+}
@@ -0,0 +1,156 @@
+package com.chess.chess.book;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Move;
+import com.chess.chess.model.MoveStatus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.random.RandomGenerator;
+
+public class OpeningBook {
+
+    public static final int RECORD_SIZE = 16;
+
+    static final int KEY = 0;
+    static final int MOVE = 8;
+    static final int WEIGHT = 10;
+    static final int LEARN = 12;
+
+    private static final long RECORDS_PER_CHUNK = Integer.MAX_VALUE / RECORD_SIZE;
+    private static final OpeningBook EMPTY = new OpeningBook(new ByteBuffer[0], 0);
+
+    private final ByteBuffer[] chunks;
+    private final long size;
+
+    private OpeningBook(ByteBuffer[] chunks, long size) {
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    public static OpeningBook empty() {
+        return EMPTY;
+    }
+
+    public static OpeningBook open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() % RECORD_SIZE != 0) {
+                throw new IOException("Not an opening book: " + path);
+            }
+            long size = channel.size() / RECORD_SIZE;
+            int chunkCount = (int) ((size + RECORDS_PER_CHUNK - 1) / RECORDS_PER_CHUNK);
+            ByteBuffer[] chunks = new ByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                long firstRecord = i * RECORDS_PER_CHUNK;
+                long records = Math.min(RECORDS_PER_CHUNK, size - firstRecord);
+                MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY,
+                        firstRecord * RECORD_SIZE, records * RECORD_SIZE);
+                chunks[i] = chunk.order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new OpeningBook(chunks, size);
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean contains(long key) {
+        long first = firstRecord(key);
+        return first < size && key(first) == key;
+    }
+
+    public int moveCount(long key) {
+        int count = 0;
+        for (long record = firstRecord(key); record < size && key(record) == key; record++) {
+            count++;
+        }
+        return count;
+    }
+
+    public int totalWeight(long key) {
+        int total = 0;
+        for (long record = firstRecord(key); record < size && key(record) == key; record++) {
+            total += weight(record);
+        }
+        return total;
+    }
+
+    public int selectMove(Board board, RandomGenerator random) {
+        long key = board.getHash();
+        long first = firstRecord(key);
+        int total = 0;
+        for (long record = first; record < size && key(record) == key; record++) {
+            if (board.checkMove(move(record)) == MoveStatus.LEGAL) {
+                total += weight(record);
+            }
+        }
+        if (total == 0) {
+            return Move.NONE;
+        }
+        int pick = random.nextInt(total);
+        for (long record = first; ; record++) {
+            int move = move(record);
+            if (board.checkMove(move) != MoveStatus.LEGAL) {
+                continue;
+            }
+            pick -= weight(record);
+            if (pick < 0) {
+                return move;
+            }
+        }
+    }
+
+    public int bestMove(Board board) {
+        long key = board.getHash();
+        int bestMove = Move.NONE;
+        int bestWeight = 0;
+        for (long record = firstRecord(key); record < size && key(record) == key; record++) {
+            int move = move(record);
+            if (weight(record) > bestWeight && board.checkMove(move) == MoveStatus.LEGAL) {
+                bestMove = move;
+                bestWeight = weight(record);
+            }
+        }
+        return bestMove;
+    }
+
+    private long firstRecord(long key) {
+        long low = 0;
+        long high = size;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (key(middle) < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private long key(long record) {
+        return chunk(record).getLong(offset(record) + KEY);
+    }
+
+    private int move(long record) {
+        return chunk(record).getShort(offset(record) + MOVE) & 0xFFFF;
+    }
+
+    private int weight(long record) {
+        return chunk(record).getShort(offset(record) + WEIGHT) & 0xFFFF;
+    }
+
+    private ByteBuffer chunk(long record) {
+        return chunks[(int) (record / RECORDS_PER_CHUNK)];
+    }
+
+    private static int offset(long record) {
+        return (int) (record % RECORDS_PER_CHUNK) * RECORD_SIZE;
+    }
+}
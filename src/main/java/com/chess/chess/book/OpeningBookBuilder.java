@@ -0,0 +1,72 @@
+package com.chess.chess.book;
+
+import com.chess.chess.model.Board;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class OpeningBookBuilder {
+
+    private static final int MAX_WEIGHT = 0xFFFF;
+    private static final int WRITE_BATCH_RECORDS = 4096;
+
+    private final int maxPlies;
+    private final Map<Long, Map<Integer, Integer>> weights = new HashMap<>();
+
+    public OpeningBookBuilder(int maxPlies) {
+        this.maxPlies = maxPlies;
+    }
+
+    public void add(long key, int move, int weight) {
+        weights.computeIfAbsent(key, k -> new TreeMap<>()).merge(move, weight, Integer::sum);
+    }
+
+    public void addGame(Board start, int[] moves, int weight) {
+        Board board = new Board(start);
+        for (int ply = 0; ply < moves.length && ply < maxPlies; ply++) {
+            add(board.getHash(), moves[ply], weight);
+            board.makeMove(moves[ply]);
+        }
+    }
+
+    public long write(Path path) throws IOException {
+        long[] keys = weights.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        ByteBuffer batch = ByteBuffer.allocateDirect(WRITE_BATCH_RECORDS * OpeningBook.RECORD_SIZE).
+                order(ByteOrder.LITTLE_ENDIAN);
+        long records = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (long key : keys) {
+                for (Map.Entry<Integer, Integer> entry : weights.get(key).entrySet()) {
+                    if (!batch.hasRemaining()) {
+                        flush(batch, channel);
+                    }
+                    int offset = batch.position();
+                    batch.putLong(offset + OpeningBook.KEY, key);
+                    batch.putShort(offset + OpeningBook.MOVE, (short) entry.getKey().intValue());
+                    batch.putShort(offset + OpeningBook.WEIGHT, (short) Math.min(entry.getValue(), MAX_WEIGHT));
+                    batch.putInt(offset + OpeningBook.LEARN, 0);
+                    batch.position(offset + OpeningBook.RECORD_SIZE);
+                    records++;
+                }
+            }
+            flush(batch, channel);
+        }
+        return records;
+    }
+
+    private static void flush(ByteBuffer batch, FileChannel channel) throws IOException {
+        batch.flip();
+        while (batch.hasRemaining()) {
+            channel.write(batch);
+        }
+        batch.clear();
+    }
+}
@@ -0,0 +1,27 @@
+package com.chess.chess.engine;
+
+import com.chess.chess.book.OpeningBook;
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Move;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class Engine {
+
+    private final OpeningBook openingBook;
+    private final LazySmpSearch search;
+
+    public Engine(OpeningBook openingBook, LazySmpSearch search) {
+        this.openingBook = openingBook;
+        this.search = search;
+    }
+
+    public SearchResult think(Board board, Duration timeBudget) {
+        int bookMove = openingBook.selectMove(board, ThreadLocalRandom.current());
+        if (bookMove != Move.NONE) {
+            return new SearchResult(bookMove, 0, 0, 0, 0);
+        }
+        return search.search(board, timeBudget);
+    }
+}
@@ -0,0 +1,31 @@
+package com.chess.chess.engine;
+
+import com.chess.chess.book.OpeningBook;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+// The engine is only built when something first searches: allocating the transposition table is the largest
+// fixed cost of starting the application and game sessions never need it.
+@Lazy
+@Configuration
+public class EngineConfiguration {
+
+    @Bean
+    public TranspositionTable transpositionTable(@Value("${chess.engine.hash-size-mb}") int sizeInMegabytes) {
+        return new TranspositionTable(sizeInMegabytes);
+    }
+
+    @Bean(destroyMethod = "close")
+    public LazySmpSearch lazySmpSearch(TranspositionTable transpositionTable,
+                                       @Value("${chess.engine.threads}") int threads) {
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new LazySmpSearch(transpositionTable, workers);
+    }
+
+    @Bean
+    public Engine engine(OpeningBook openingBook, LazySmpSearch lazySmpSearch) {
+        return new Engine(openingBook, lazySmpSearch);
+    }
+}
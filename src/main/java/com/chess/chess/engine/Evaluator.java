@@ -0,0 +1,126 @@
+package com.chess.chess.engine;
+
+import com.chess.chess.model.Attacks;
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Color;
+import com.chess.chess.model.PieceSquareTables;
+import com.chess.chess.model.PieceType;
+
+// Material and piece-square terms come from the accumulator Board keeps up to date in makeMove/unmakeMove; pawn
+// structure (optionally cached by pawn hash) and king safety are bitboard-only. Scores are packed midgame/endgame
+// pairs until the final taper.
+public final class Evaluator {
+
+    public static final int[] PIECE_VALUES = {100, 320, 330, 500, 900, 0};
+
+    private static final int DOUBLED_PAWN = PieceSquareTables.score(-10, -20);
+    private static final int ISOLATED_PAWN = PieceSquareTables.score(-10, -15);
+    private static final int BACKWARD_PAWN = PieceSquareTables.score(-8, -10);
+    private static final int[] PASSED_PAWN = {
+            0,
+            PieceSquareTables.score(5, 10),
+            PieceSquareTables.score(10, 20),
+            PieceSquareTables.score(20, 40),
+            PieceSquareTables.score(35, 70),
+            PieceSquareTables.score(60, 120),
+            PieceSquareTables.score(100, 200),
+            0
+    };
+    private static final int PAWN_SHIELD = PieceSquareTables.score(12, 0);
+    private static final int KING_ZONE_ATTACK = PieceSquareTables.score(-8, 0);
+
+    private static final long[] FILES = new long[Board.SIZE];
+    private static final long[] ADJACENT_FILES = new long[Board.SIZE];
+    // Indexed by color * 64 + square: the squares ahead of a pawn on its own and adjacent files.
+    private static final long[] PASSED_MASKS = new long[2 * Board.SQUARES];
+
+    static {
+        for (int file = 0; file < Board.SIZE; file++) {
+            FILES[file] = Attacks.FILE_A << file;
+        }
+        for (int file = 0; file < Board.SIZE; file++) {
+            ADJACENT_FILES[file] = (file > 0 ? FILES[file - 1] : 0) | (file < Board.SIZE - 1 ? FILES[file + 1] : 0);
+        }
+        for (int square = 0; square < Board.SQUARES; square++) {
+            int rank = square / Board.SIZE;
+            long span = FILES[square % Board.SIZE] | ADJACENT_FILES[square % Board.SIZE];
+            long above = rank == Board.SIZE - 1 ? 0 : -1L << (rank + 1) * Board.SIZE;
+            long below = (1L << rank * Board.SIZE) - 1;
+            PASSED_MASKS[square] = span & above;
+            PASSED_MASKS[Board.SQUARES + square] = span & below;
+        }
+    }
+
+    private Evaluator() {
+    }
+
+    public static int evaluate(Board board) {
+        long whitePawns = board.bitboard(Color.WHITE, PieceType.PAWN);
+        long blackPawns = board.bitboard(Color.BLACK, PieceType.PAWN);
+        return evaluate(board, whitePawns, blackPawns, pawnStructure(whitePawns, blackPawns));
+    }
+
+    public static int evaluate(Board board, PawnHashTable pawnHashTable) {
+        long whitePawns = board.bitboard(Color.WHITE, PieceType.PAWN);
+        long blackPawns = board.bitboard(Color.BLACK, PieceType.PAWN);
+        long pawnHash = board.getPawnHash();
+        int pawnStructure = pawnHashTable.probe(pawnHash);
+        if (pawnStructure == PawnHashTable.MISS) {
+            pawnStructure = pawnStructure(whitePawns, blackPawns);
+            pawnHashTable.store(pawnHash, pawnStructure);
+        }
+        return evaluate(board, whitePawns, blackPawns, pawnStructure);
+    }
+
+    private static int evaluate(Board board, long whitePawns, long blackPawns, int pawnStructure) {
+        int score = board.getPieceSquareScore() + pawnStructure +
+                kingSafety(board, Color.WHITE, whitePawns) - kingSafety(board, Color.BLACK, blackPawns);
+        int phase = Math.min(board.getPhase(), PieceSquareTables.MAX_PHASE);
+        int tapered = (PieceSquareTables.midgame(score) * phase +
+                PieceSquareTables.endgame(score) * (PieceSquareTables.MAX_PHASE - phase)) / PieceSquareTables.MAX_PHASE;
+        return board.getSideToMove() == Color.WHITE ? tapered : -tapered;
+    }
+
+    static int pawnStructure(long whitePawns, long blackPawns) {
+        return pawns(Color.WHITE, whitePawns, blackPawns) - pawns(Color.BLACK, blackPawns, whitePawns);
+    }
+
+    private static int pawns(Color color, long pawns, long enemyPawns) {
+        int score = 0;
+        for (int file = 0; file < Board.SIZE; file++) {
+            int count = Long.bitCount(pawns & FILES[file]);
+            if (count > 1) {
+                score += (count - 1) * DOUBLED_PAWN;
+            }
+            if (count > 0 && (pawns & ADJACENT_FILES[file]) == 0) {
+                score += count * ISOLATED_PAWN;
+            }
+        }
+        int side = color.ordinal();
+        int forward = color == Color.WHITE ? Board.SIZE : -Board.SIZE;
+        for (long remaining = pawns; remaining != 0; remaining &= remaining - 1) {
+            int square = Long.numberOfTrailingZeros(remaining);
+            long ahead = PASSED_MASKS[side * Board.SQUARES + square];
+            if ((ahead & enemyPawns) == 0) {
+                int rank = square / Board.SIZE;
+                score += PASSED_PAWN[color == Color.WHITE ? rank : Board.SIZE - 1 - rank];
+            } else if ((pawns & ADJACENT_FILES[square % Board.SIZE] & ~ahead) == 0 &&
+                    (Attacks.pawn(color, square + forward) & enemyPawns) != 0) {
+                score += BACKWARD_PAWN;
+            }
+        }
+        return score;
+    }
+
+    private static int kingSafety(Board board, Color color, long pawns) {
+        long king = board.bitboard(color, PieceType.KING);
+        if (king == 0) {
+            return 0;
+        }
+        int square = Long.numberOfTrailingZeros(king);
+        long zone = Attacks.king(square) | king;
+        long shield = zone & PASSED_MASKS[color.ordinal() * Board.SQUARES + square] & pawns;
+        return Long.bitCount(shield) * PAWN_SHIELD +
+                Long.bitCount(zone & board.attacks(color.opposite())) * KING_ZONE_ATTACK;
+    }
+}
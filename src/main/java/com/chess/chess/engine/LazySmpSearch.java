@@ -0,0 +1,129 @@
+package com.chess.chess.engine;
+
+import com.chess.chess.model.Board;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Every search runs on all of the worker threads, so searches are serialised: concurrent callers of a shared instance
+// wait for the search in progress to finish before theirs starts.
+public class LazySmpSearch implements AutoCloseable {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final TranspositionTable transpositionTable;
+    private final Search[] searches;
+    private final ExecutorService executor;
+
+    public LazySmpSearch(TranspositionTable transpositionTable, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one search thread is required");
+        }
+        this.transpositionTable = transpositionTable;
+        this.searches = new Search[threads];
+        for (int i = 0; i < threads; i++) {
+            searches[i] = new Search(transpositionTable);
+        }
+        this.executor = Executors.newFixedThreadPool(threads, workerThreadFactory());
+    }
+
+    public int getThreads() {
+        return searches.length;
+    }
+
+    public TranspositionTable getTranspositionTable() {
+        return transpositionTable;
+    }
+
+    // Summed over the per-thread tables; read without synchronisation, so only approximate while searching.
+    public PawnHashTable.Statistics pawnHashStatistics() {
+        long hits = 0;
+        long misses = 0;
+        long replacements = 0;
+        for (Search search : searches) {
+            PawnHashTable.Statistics statistics = search.getPawnHashTable().statistics();
+            hits += statistics.hits();
+            misses += statistics.misses();
+            replacements += statistics.replacements();
+        }
+        return new PawnHashTable.Statistics(hits, misses, replacements);
+    }
+
+    public SearchResult search(Board board, Duration timeBudget) {
+        return search(board, timeBudget, Search.MAX_PLY);
+    }
+
+    public synchronized SearchResult search(Board board, Duration timeBudget, int maxDepth) {
+        long start = System.nanoTime();
+        long deadline = start + timeBudget.toNanos();
+        transpositionTable.newSearch();
+
+        List<Future<SearchResult>> futures = new ArrayList<>(searches.length);
+        for (int i = 0; i < searches.length; i++) {
+            Search search = searches[i];
+            Board workerBoard = new Board(board);
+            int startDepth = 1 + (i & 1);
+            search.clearStopRequest();
+            futures.add(executor.submit(() -> search.search(workerBoard, deadline, maxDepth, startDepth)));
+        }
+
+        SearchResult best = await(futures.get(0));
+        for (int i = 1; i < searches.length; i++) {
+            searches[i].stop();
+        }
+        long nodes = best.nodes();
+        for (int i = 1; i < futures.size(); i++) {
+            SearchResult helper = await(futures.get(i));
+            nodes += helper.nodes();
+            if (helper.depth() > best.depth() && helper.bestMove() != 0) {
+                best = helper;
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return new SearchResult(best.bestMove(), best.score(), best.depth(), nodes, elapsedMillis);
+    }
+
+    @Override
+    public void close() {
+        for (Search search : searches) {
+            search.stop();
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static SearchResult await(Future<SearchResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for search workers", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search worker failed", e.getCause());
+        }
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "search-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
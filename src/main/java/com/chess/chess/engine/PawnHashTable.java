@@ -0,0 +1,94 @@
+package com.chess.chess.engine;
+
+import java.util.Arrays;
+
+// Caches the packed pawn-structure score per pawn hash. Each Search owns one, so there is no synchronisation.
+// The table starts zeroed, which is already the right entry for key 0: a board without pawns scores 0.
+public class PawnHashTable {
+
+    public static final int MISS = Integer.MIN_VALUE;
+
+    private static final int BYTES_PER_ENTRY = Long.BYTES + Integer.BYTES;
+
+    public enum Replacement {
+        ALWAYS,
+        // Buckets of two: new entries overwrite the second slot, and an entry is promoted to the first slot once it
+        // is hit, so structures that keep recurring survive a stream of one-off ones.
+        TWO_TIER
+    }
+
+    private final long[] keys;
+    private final int[] scores;
+    private final int mask;
+    private final Replacement replacement;
+    private long hits;
+    private long misses;
+    private long replacements;
+
+    public PawnHashTable(int sizeInKilobytes, Replacement replacement) {
+        int entries = Integer.highestOneBit(Math.max(2, sizeInKilobytes * 1024 / BYTES_PER_ENTRY));
+        keys = new long[entries];
+        scores = new int[entries];
+        mask = replacement == Replacement.TWO_TIER ? entries - 2 : entries - 1;
+        this.replacement = replacement;
+    }
+
+    public PawnHashTable(int sizeInKilobytes) {
+        this(sizeInKilobytes, Replacement.TWO_TIER);
+    }
+
+    public int probe(long key) {
+        int index = (int) key & mask;
+        if (keys[index] == key) {
+            hits++;
+            return scores[index];
+        }
+        if (replacement == Replacement.TWO_TIER && keys[index + 1] == key) {
+            hits++;
+            int score = scores[index + 1];
+            keys[index + 1] = keys[index];
+            scores[index + 1] = scores[index];
+            keys[index] = key;
+            scores[index] = score;
+            return score;
+        }
+        misses++;
+        return MISS;
+    }
+
+    public void store(long key, int score) {
+        int index = (int) key & mask;
+        if (replacement == Replacement.TWO_TIER && keys[index] != key) {
+            index++;
+        }
+        if (keys[index] != key && keys[index] != 0) {
+            replacements++;
+        }
+        keys[index] = key;
+        scores[index] = score;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(scores, 0);
+        hits = 0;
+        misses = 0;
+        replacements = 0;
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    public Statistics statistics() {
+        return new Statistics(hits, misses, replacements);
+    }
+
+    public record Statistics(long hits, long misses, long replacements) {
+
+        public double hitRate() {
+            long probes = hits + misses;
+            return probes == 0 ? 0.0 : (double) hits / probes;
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.chess.chess.engine;
+
+import com.chess.chess.metrics.Instrumentation;
+import com.chess.chess.metrics.Operation;
+import com.chess.chess.metrics.SearchEvent;
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Color;
+import com.chess.chess.model.Move;
+import com.chess.chess.model.MoveGenerator;
+import com.chess.chess.model.Piece;
+import com.chess.chess.model.PieceType;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+public class Search {
+
+    public static final int MAX_PLY = 128;
+    public static final int INFINITY = 32_000;
+    public static final int MATE = 31_000;
+
+    private static final int DEFAULT_TABLE_SIZE_MB = 16;
+    private static final int PAWN_TABLE_SIZE_KB = 256;
+    private static final int NODES_BETWEEN_TIME_CHECKS = 2048;
+    private static final int PREVIOUS_BEST_SCORE = 2_000_000;
+    private static final int CAPTURE_SCORE = 1_000_000;
+    private static final int FIRST_KILLER_SCORE = 900_000;
+    private static final int SECOND_KILLER_SCORE = 800_000;
+    private static final int HISTORY_LIMIT = 500_000;
+
+    private final int[][] moves = new int[MAX_PLY + 1][MoveGenerator.MAX_MOVES];
+    private final int[][] moveScores = new int[MAX_PLY + 1][MoveGenerator.MAX_MOVES];
+    private final int[][] killers = new int[MAX_PLY + 1][2];
+    private final int[][][] history = new int[2][Board.SQUARES][Board.SQUARES];
+
+    private final TranspositionTable transpositionTable;
+    private final PawnHashTable pawnHashTable = new PawnHashTable(PAWN_TABLE_SIZE_KB);
+    private Board board;
+    private long deadline;
+    private long nodes;
+    private volatile boolean stopRequested;
+    private boolean stopped;
+    private int rootBestMove;
+
+    public Search() {
+        this(new TranspositionTable(DEFAULT_TABLE_SIZE_MB));
+    }
+
+    public Search(TranspositionTable transpositionTable) {
+        this.transpositionTable = transpositionTable;
+    }
+
+    public PawnHashTable getPawnHashTable() {
+        return pawnHashTable;
+    }
+
+    public SearchResult search(Board board, Duration timeBudget) {
+        return search(board, timeBudget, MAX_PLY);
+    }
+
+    public SearchResult search(Board board, Duration timeBudget, int maxDepth) {
+        stopRequested = false;
+        transpositionTable.newSearch();
+        return search(board, System.nanoTime() + timeBudget.toNanos(), maxDepth, 1);
+    }
+
+    SearchResult search(Board board, long deadline, int maxDepth, int startDepth) {
+        SearchEvent event = new SearchEvent();
+        event.begin();
+        long start = System.nanoTime();
+        this.board = board;
+        this.deadline = deadline;
+        nodes = 0;
+        stopped = false;
+        clearHeuristics();
+
+        int bestMove = firstLegalMove();
+        int bestScore = 0;
+        int completedDepth = 0;
+        for (int depth = startDepth; depth <= maxDepth && bestMove != Move.NONE; depth++) {
+            rootBestMove = bestMove;
+            int score = negamax(depth, 0, -INFINITY, INFINITY);
+            if (stopped) {
+                break;
+            }
+            bestMove = rootBestMove;
+            bestScore = score;
+            completedDepth = depth;
+            if (Math.abs(score) >= MATE - MAX_PLY) {
+                break;
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        event.finish(completedDepth, nodes, bestScore);
+        if (Instrumentation.ENABLED) {
+            Instrumentation.record(Operation.SEARCH, start);
+            Instrumentation.add(Operation.SEARCH_NODE, nodes);
+        }
+        return new SearchResult(bestMove, bestScore, completedDepth, nodes, elapsedMillis);
+    }
+
+    public void stop() {
+        stopRequested = true;
+    }
+
+    void clearStopRequest() {
+        stopRequested = false;
+    }
+
+    private int negamax(int depth, int ply, int alpha, int beta) {
+        if (ply > 0 && board.isRepetition()) {
+            return 0;
+        }
+        if (depth <= 0 || ply >= MAX_PLY) {
+            return quiescence(ply, alpha, beta);
+        }
+        countNode();
+
+        long key = board.getHash();
+        int hashMove = Move.NONE;
+        long entry = transpositionTable.probe(key);
+        if (entry != 0) {
+            hashMove = TranspositionTable.move(entry);
+            if (ply > 0 && TranspositionTable.depth(entry) >= depth) {
+                int score = scoreFromTable(TranspositionTable.score(entry), ply);
+                int bound = TranspositionTable.bound(entry);
+                if (bound == TranspositionTable.BOUND_EXACT ||
+                        (bound == TranspositionTable.BOUND_LOWER && score >= beta) ||
+                        (bound == TranspositionTable.BOUND_UPPER && score <= alpha)) {
+                    return score;
+                }
+            }
+        }
+
+        Color us = board.getSideToMove();
+        int[] plyMoves = moves[ply];
+        int count = MoveGenerator.generateLegal(board, plyMoves);
+        if (count == 0) {
+            return board.isInCheck() ? -MATE + ply : 0;
+        }
+        scoreMoves(ply, count, ply == 0 ? rootBestMove : hashMove);
+
+        int originalAlpha = alpha;
+        int bestScore = -INFINITY;
+        int bestMove = Move.NONE;
+        for (int i = 0; i < count; i++) {
+            int move = pickNextMove(ply, i, count);
+            board.makeMove(move);
+            int score = -negamax(depth - 1, ply + 1, -beta, -alpha);
+            board.unmakeMove();
+            if (stopped) {
+                return 0;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+                if (ply == 0) {
+                    rootBestMove = move;
+                }
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+            if (alpha >= beta) {
+                if (!Move.isCapture(move)) {
+                    recordQuietCutoff(ply, us, move, depth);
+                }
+                break;
+            }
+        }
+        int bound = bestScore <= originalAlpha ? TranspositionTable.BOUND_UPPER :
+                bestScore >= beta ? TranspositionTable.BOUND_LOWER : TranspositionTable.BOUND_EXACT;
+        transpositionTable.store(key, bestMove, scoreToTable(bestScore, ply), depth, bound);
+        return bestScore;
+    }
+
+    private static int scoreToTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY) {
+            return score + ply;
+        }
+        if (score <= -MATE + MAX_PLY) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    private static int scoreFromTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY) {
+            return score - ply;
+        }
+        if (score <= -MATE + MAX_PLY) {
+            return score + ply;
+        }
+        return score;
+    }
+
+    private int quiescence(int ply, int alpha, int beta) {
+        countNode();
+        int standPat = Evaluator.evaluate(board, pawnHashTable);
+        if (standPat >= beta || ply >= MAX_PLY) {
+            return standPat;
+        }
+        if (standPat > alpha) {
+            alpha = standPat;
+        }
+
+        int[] plyMoves = moves[ply];
+        int count = keepCapturesAndPromotions(plyMoves, MoveGenerator.generateLegal(board, plyMoves));
+        scoreMoves(ply, count, Move.NONE);
+        for (int i = 0; i < count; i++) {
+            int move = pickNextMove(ply, i, count);
+            board.makeMove(move);
+            int score = -quiescence(ply + 1, -beta, -alpha);
+            board.unmakeMove();
+            if (stopped) {
+                return 0;
+            }
+            if (score >= beta) {
+                return score;
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+        }
+        return alpha;
+    }
+
+    private void countNode() {
+        if (++nodes % NODES_BETWEEN_TIME_CHECKS == 0 && (stopRequested || System.nanoTime() >= deadline)) {
+            stopped = true;
+        }
+    }
+
+    private int firstLegalMove() {
+        int[] rootMoves = moves[0];
+        return MoveGenerator.generateLegal(board, rootMoves) > 0 ? rootMoves[0] : Move.NONE;
+    }
+
+    private static int keepCapturesAndPromotions(int[] plyMoves, int count) {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (Move.isCapture(plyMoves[i]) || Move.isPromotion(plyMoves[i])) {
+                plyMoves[kept++] = plyMoves[i];
+            }
+        }
+        return kept;
+    }
+
+    private void scoreMoves(int ply, int count, int previousBest) {
+        int[] plyMoves = moves[ply];
+        int[] scores = moveScores[ply];
+        int side = board.getSideToMove().ordinal();
+        for (int i = 0; i < count; i++) {
+            int move = plyMoves[i];
+            if (move == previousBest) {
+                scores[i] = PREVIOUS_BEST_SCORE;
+            } else if (Move.isCapture(move)) {
+                scores[i] = CAPTURE_SCORE + 10 * victimValue(move) - attackerValue(move);
+            } else if (Move.isPromotion(move)) {
+                scores[i] = CAPTURE_SCORE + Evaluator.PIECE_VALUES[Move.promotionType(move).ordinal()];
+            } else if (move == killers[ply][0]) {
+                scores[i] = FIRST_KILLER_SCORE;
+            } else if (move == killers[ply][1]) {
+                scores[i] = SECOND_KILLER_SCORE;
+            } else {
+                scores[i] = history[side][Move.from(move)][Move.to(move)];
+            }
+        }
+    }
+
+    private int pickNextMove(int ply, int index, int count) {
+        int[] plyMoves = moves[ply];
+        int[] scores = moveScores[ply];
+        int best = index;
+        for (int i = index + 1; i < count; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        int move = plyMoves[best];
+        plyMoves[best] = plyMoves[index];
+        plyMoves[index] = move;
+        int score = scores[best];
+        scores[best] = scores[index];
+        scores[index] = score;
+        return move;
+    }
+
+    private int victimValue(int move) {
+        if (Move.flag(move) == Move.EN_PASSANT) {
+            return Evaluator.PIECE_VALUES[PieceType.PAWN.ordinal()];
+        }
+        Piece victim = board.pieceAt(Move.to(move));
+        return Evaluator.PIECE_VALUES[victim.getType().ordinal()];
+    }
+
+    private int attackerValue(int move) {
+        return Evaluator.PIECE_VALUES[board.pieceAt(Move.from(move)).getType().ordinal()];
+    }
+
+    private void recordQuietCutoff(int ply, Color us, int move, int depth) {
+        if (killers[ply][0] != move) {
+            killers[ply][1] = killers[ply][0];
+            killers[ply][0] = move;
+        }
+        int[] fromHistory = history[us.ordinal()][Move.from(move)];
+        fromHistory[Move.to(move)] = Math.min(HISTORY_LIMIT, fromHistory[Move.to(move)] + depth * depth);
+    }
+
+    private void clearHeuristics() {
+        for (int[] plyKillers : killers) {
+            plyKillers[0] = Move.NONE;
+            plyKillers[1] = Move.NONE;
+        }
+        for (int[][] sideHistory : history) {
+            for (int[] fromHistory : sideHistory) {
+                Arrays.fill(fromHistory, 0);
+            }
+        }
+    }
+}
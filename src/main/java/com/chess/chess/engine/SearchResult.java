@@ -0,0 +1,4 @@
+package com.chess.chess.engine;
+
+public record SearchResult(int bestMove, int score, int depth, long nodes, long elapsedMillis) {
+}
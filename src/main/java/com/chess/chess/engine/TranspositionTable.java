@@ -0,0 +1,151 @@
+package com.chess.chess.engine;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+public class TranspositionTable {
+
+    public static final int BOUND_EXACT = 1;
+    public static final int BOUND_LOWER = 2;
+    public static final int BOUND_UPPER = 3;
+
+    private static final int BUCKET_SIZE = 4;
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final int BYTES_PER_ENTRY = LONGS_PER_ENTRY * Long.BYTES;
+    private static final int AGE_MASK = 0x3F;
+    private static final long MAX_BUCKETS = 1L << 27;
+
+    private static final int MOVE_SHIFT = 0;
+    private static final int SCORE_SHIFT = 16;
+    private static final int DEPTH_SHIFT = 32;
+    private static final int BOUND_SHIFT = 40;
+    private static final int AGE_SHIFT = 42;
+
+    // Each entry is two longs: (key ^ data, data). A torn write from a racing thread
+    // makes the XOR check fail, so the table needs no locks.
+    private final long[] entries;
+    private final int bucketMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+    private volatile int age;
+
+    public TranspositionTable(int sizeInMegabytes) {
+        long requestedEntries = (long) sizeInMegabytes * 1024 * 1024 / BYTES_PER_ENTRY;
+        long buckets = Long.highestOneBit(Math.max(1, requestedEntries / BUCKET_SIZE));
+        buckets = Math.min(buckets, MAX_BUCKETS);
+        entries = new long[(int) (buckets * BUCKET_SIZE * LONGS_PER_ENTRY)];
+        bucketMask = (int) buckets - 1;
+    }
+
+    public long probe(long key) {
+        int bucket = bucketIndex(key);
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            int index = bucket + i * LONGS_PER_ENTRY;
+            long data = entries[index + 1];
+            if (data != 0 && (entries[index] ^ data) == key) {
+                hits.increment();
+                return data;
+            }
+        }
+        misses.increment();
+        return 0L;
+    }
+
+    public void store(long key, int move, int score, int depth, int bound) {
+        int bucket = bucketIndex(key);
+        int currentAge = age;
+        int replace = bucket;
+        int replaceWorth = Integer.MAX_VALUE;
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            int index = bucket + i * LONGS_PER_ENTRY;
+            long data = entries[index + 1];
+            if (data == 0 || (entries[index] ^ data) == key) {
+                if (data != 0 && move == 0) {
+                    move = move(data);
+                }
+                replace = index;
+                replaceWorth = Integer.MIN_VALUE;
+                break;
+            }
+            int worth = depth(data) - 8 * ((currentAge - age(data)) & AGE_MASK);
+            if (worth < replaceWorth) {
+                replace = index;
+                replaceWorth = worth;
+            }
+        }
+        if (replaceWorth != Integer.MIN_VALUE) {
+            collisions.increment();
+        }
+        long data = pack(move, score, depth, bound, currentAge);
+        entries[replace] = key ^ data;
+        entries[replace + 1] = data;
+    }
+
+    public void newSearch() {
+        age = (age + 1) & AGE_MASK;
+    }
+
+    public void clear() {
+        Arrays.fill(entries, 0L);
+        hits.reset();
+        misses.reset();
+        collisions.reset();
+    }
+
+    public Statistics statistics() {
+        int sampled = Math.min(1000, entries.length / LONGS_PER_ENTRY);
+        int used = 0;
+        for (int i = 0; i < sampled; i++) {
+            long data = entries[i * LONGS_PER_ENTRY + 1];
+            if (data != 0 && age(data) == age) {
+                used++;
+            }
+        }
+        return new Statistics(hits.sum(), misses.sum(), collisions.sum(), used * 1000 / Math.max(1, sampled));
+    }
+
+    public int capacity() {
+        return entries.length / LONGS_PER_ENTRY;
+    }
+
+    public static int move(long data) {
+        return (int) (data >>> MOVE_SHIFT) & 0xFFFF;
+    }
+
+    public static int score(long data) {
+        return (short) (data >>> SCORE_SHIFT);
+    }
+
+    public static int depth(long data) {
+        return (int) (data >>> DEPTH_SHIFT) & 0xFF;
+    }
+
+    public static int bound(long data) {
+        return (int) (data >>> BOUND_SHIFT) & 0x3;
+    }
+
+    private static int age(long data) {
+        return (int) (data >>> AGE_SHIFT) & AGE_MASK;
+    }
+
+    private static long pack(int move, int score, int depth, int bound, int age) {
+        return ((long) move & 0xFFFF) << MOVE_SHIFT |
+                ((long) score & 0xFFFF) << SCORE_SHIFT |
+                ((long) Math.max(0, Math.min(depth, 0xFF))) << DEPTH_SHIFT |
+                ((long) bound) << BOUND_SHIFT |
+                ((long) age) << AGE_SHIFT;
+    }
+
+    private int bucketIndex(long key) {
+        return ((int) (key >>> 32) & bucketMask) * BUCKET_SIZE * LONGS_PER_ENTRY;
+    }
+
+    public record Statistics(long hits, long misses, long collisions, int hashfullPermille) {
+
+        public double hitRate() {
+            long probes = hits + misses;
+            return probes == 0 ? 0.0 : (double) hits / probes;
+        }
+    }
+}
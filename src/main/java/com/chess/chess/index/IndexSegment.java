@@ -0,0 +1,188 @@
+package com.chess.chess.index;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+final class IndexSegment {
+
+    static final int MAGIC = 0x58444950;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int KEY_ENTRY_SIZE = 20;
+
+    private static final int KEY_COUNT = 8;
+    private static final int POSTING_TOTAL = 16;
+    private static final int POSTING_OFFSET = 8;
+    private static final int POSTING_COUNT = 16;
+
+    private final Path path;
+    private final MappedFile file;
+    private final long keyCount;
+    private final long postingCount;
+
+    private IndexSegment(Path path, MappedFile file, long keyCount, long postingCount) {
+        this.path = path;
+        this.file = file;
+        this.keyCount = keyCount;
+        this.postingCount = postingCount;
+    }
+
+    static IndexSegment open(Path path) throws IOException {
+        MappedFile file = MappedFile.open(path);
+        if (file.size() < HEADER_SIZE || file.getInt(0) != MAGIC || file.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("Not a position index segment: " + path);
+        }
+        return new IndexSegment(path, file, file.getLong(KEY_COUNT), file.getLong(POSTING_TOTAL));
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long keyCount() {
+        return keyCount;
+    }
+
+    long postingCount() {
+        return postingCount;
+    }
+
+    long key(long index) {
+        return file.getLong(keyEntry(index));
+    }
+
+    int postingCount(long index) {
+        return file.getInt(keyEntry(index) + POSTING_COUNT);
+    }
+
+    long find(long hash) {
+        long low = 0;
+        long high = keyCount - 1;
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            long key = key(middle);
+            if (key < hash) {
+                low = middle + 1;
+            } else if (key > hash) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    int postings(long index, int[] target, int offset) {
+        long position = file.getLong(keyEntry(index) + POSTING_OFFSET);
+        int count = postingCount(index);
+        int value = 0;
+        for (int i = 0; i < count; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte next;
+            do {
+                next = file.get(position++);
+                delta |= (next & 0x7F) << shift;
+                shift += 7;
+            } while (next < 0);
+            value += delta;
+            target[offset + i] = value;
+        }
+        return count;
+    }
+
+    private static long keyEntry(long index) {
+        return HEADER_SIZE + index * KEY_ENTRY_SIZE;
+    }
+
+    static final class Writer implements AutoCloseable {
+
+        private static final int BATCH_SIZE = 1 << 16;
+
+        private final FileChannel channel;
+        private final ByteBuffer keys = ByteBuffer.allocateDirect(BATCH_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private final ByteBuffer postings = ByteBuffer.allocateDirect(BATCH_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private final long keyCount;
+        private long keysPosition = HEADER_SIZE;
+        private long postingsPosition;
+        private long nextPosting;
+        private long written;
+        private long postingTotal;
+
+        Writer(Path path, long keyCount) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            this.keyCount = keyCount;
+            this.postingsPosition = HEADER_SIZE + keyCount * KEY_ENTRY_SIZE;
+            this.nextPosting = postingsPosition;
+        }
+
+        void add(long hash, int[] sortedIds, int count) throws IOException {
+            if (keys.remaining() < KEY_ENTRY_SIZE) {
+                keysPosition = flush(keys, keysPosition);
+            }
+            keys.putLong(hash).putLong(nextPosting).putInt(count);
+            int previous = 0;
+            for (int i = 0; i < count; i++) {
+                if (postings.remaining() < 5) {
+                    postingsPosition = flush(postings, postingsPosition);
+                }
+                int delta = sortedIds[i] - previous;
+                previous = sortedIds[i];
+                while ((delta & ~0x7F) != 0) {
+                    postings.put((byte) ((delta & 0x7F) | 0x80));
+                    delta >>>= 7;
+                    nextPosting++;
+                }
+                postings.put((byte) delta);
+                nextPosting++;
+            }
+            written++;
+            postingTotal += count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (written != keyCount) {
+                    throw new IllegalStateException("Expected " + keyCount + " keys but got " + written);
+                }
+                flush(keys, keysPosition);
+                flush(postings, postingsPosition);
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC).putInt(VERSION).putLong(keyCount).putLong(postingTotal).putLong(nextPosting).flip();
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+                channel.force(false);
+            } finally {
+                channel.close();
+            }
+        }
+
+        private long flush(ByteBuffer buffer, long position) throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            buffer.clear();
+            return position;
+        }
+    }
+
+    static int sortDistinct(int[] ids, int count) {
+        Arrays.sort(ids, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || ids[distinct - 1] != ids[i]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return distinct;
+    }
+}
@@ -0,0 +1,115 @@
+package com.chess.chess.index;
+
+import java.util.Arrays;
+
+class LongIntMultimap {
+
+    private static final int NO_ENTRY = -1;
+    private static final float MAX_LOAD = 0.5f;
+
+    private long[] keys;
+    private int[] heads;
+    private int[] values;
+    private int[] next;
+    private int keyCount;
+    private int valueCount;
+
+    LongIntMultimap(int expectedKeys) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedKeys / MAX_LOAD)) - 1) << 1;
+        keys = new long[capacity];
+        heads = new int[capacity];
+        Arrays.fill(heads, NO_ENTRY);
+        values = new int[Math.max(16, expectedKeys)];
+        next = new int[values.length];
+    }
+
+    void put(long key, int value) {
+        if (keyCount + 1 > keys.length * MAX_LOAD) {
+            rehash(keys.length * 2);
+        }
+        int slot = slot(key);
+        if (heads[slot] == NO_ENTRY) {
+            keys[slot] = key;
+            keyCount++;
+        }
+        if (valueCount == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+            next = Arrays.copyOf(next, next.length * 2);
+        }
+        values[valueCount] = value;
+        next[valueCount] = heads[slot];
+        heads[slot] = valueCount++;
+    }
+
+    int count(long key) {
+        int count = 0;
+        for (int entry = heads[slot(key)]; entry != NO_ENTRY; entry = next[entry]) {
+            count++;
+        }
+        return count;
+    }
+
+    int get(long key, int[] target, int offset) {
+        int count = 0;
+        for (int entry = heads[slot(key)]; entry != NO_ENTRY; entry = next[entry]) {
+            target[offset + count++] = values[entry];
+        }
+        return count;
+    }
+
+    int keyCount() {
+        return keyCount;
+    }
+
+    int valueCount() {
+        return valueCount;
+    }
+
+    long[] sortedKeys() {
+        long[] sorted = new long[keyCount];
+        int count = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (heads[slot] != NO_ENTRY) {
+                sorted[count++] = keys[slot];
+            }
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    void clear() {
+        Arrays.fill(heads, NO_ENTRY);
+        keyCount = 0;
+        valueCount = 0;
+    }
+
+    private int slot(long key) {
+        int mask = keys.length - 1;
+        int slot = (int) (mix(key) & mask);
+        while (heads[slot] != NO_ENTRY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldHeads = heads;
+        keys = new long[capacity];
+        heads = new int[capacity];
+        Arrays.fill(heads, NO_ENTRY);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldHeads[slot] != NO_ENTRY) {
+                int newSlot = slot(oldKeys[slot]);
+                keys[newSlot] = oldKeys[slot];
+                heads[newSlot] = oldHeads[slot];
+            }
+        }
+    }
+
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xFF51AFD7ED558CCDL;
+        return key ^ (key >>> 33);
+    }
+}
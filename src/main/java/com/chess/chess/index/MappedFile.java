@@ -0,0 +1,69 @@
+package com.chess.chess.index;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+final class MappedFile {
+
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+    private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final ByteBuffer[] chunks;
+    private final long size;
+
+    private MappedFile(ByteBuffer[] chunks, long size) {
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    static MappedFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int chunkCount = (int) ((size + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+            ByteBuffer[] chunks = new ByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                long start = (long) i << CHUNK_SHIFT;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(CHUNK_SIZE, size - start)).
+                        order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new MappedFile(chunks, size);
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    byte get(long position) {
+        return chunks[(int) (position >>> CHUNK_SHIFT)].get((int) (position & CHUNK_MASK));
+    }
+
+    int getInt(long position) {
+        int offset = (int) (position & CHUNK_MASK);
+        if (offset + Integer.BYTES <= CHUNK_SIZE) {
+            return chunks[(int) (position >>> CHUNK_SHIFT)].getInt(offset);
+        }
+        int value = 0;
+        for (int i = Integer.BYTES - 1; i >= 0; i--) {
+            value = (value << 8) | (get(position + i) & 0xFF);
+        }
+        return value;
+    }
+
+    long getLong(long position) {
+        int offset = (int) (position & CHUNK_MASK);
+        if (offset + Long.BYTES <= CHUNK_SIZE) {
+            return chunks[(int) (position >>> CHUNK_SHIFT)].getLong(offset);
+        }
+        long value = 0;
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            value = (value << 8) | (get(position + i) & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,270 @@
+package com.chess.chess.index;
+
+import com.chess.chess.model.Board;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+public class PositionIndex implements Closeable {
+
+    public static final int DEFAULT_FLUSH_THRESHOLD = 1 << 22;
+    public static final int DEFAULT_MERGE_FACTOR = 8;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".pix";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final int[] NO_GAMES = new int[0];
+
+    private final Path directory;
+    private final int flushThreshold;
+    private final int mergeFactor;
+    private final LongIntMultimap buffer;
+    private final AtomicLong nextSegmentId = new AtomicLong();
+    private final ExecutorService merger = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "position-index-merge");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile List<IndexSegment> segments;
+    private Future<?> pendingMerge;
+    private IOException mergeFailure;
+
+    public PositionIndex(Path directory) throws IOException {
+        this(directory, DEFAULT_FLUSH_THRESHOLD, DEFAULT_MERGE_FACTOR);
+    }
+
+    public PositionIndex(Path directory, int flushThreshold, int mergeFactor) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.flushThreshold = flushThreshold;
+        this.mergeFactor = mergeFactor;
+        this.buffer = new LongIntMultimap(Math.min(flushThreshold, 1 << 16));
+        List<IndexSegment> existing = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.sorted().toList()) {
+                String name = path.getFileName().toString();
+                if (name.endsWith(TEMPORARY_SUFFIX)) {
+                    Files.delete(path);
+                } else if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    existing.add(IndexSegment.open(path));
+                    nextSegmentId.set(Math.max(nextSegmentId.get(), segmentId(name) + 1));
+                }
+            }
+        }
+        this.segments = List.copyOf(existing);
+    }
+
+    public synchronized void add(int gameId, long positionHash) throws IOException {
+        buffer.put(positionHash, gameId);
+        if (buffer.valueCount() >= flushThreshold) {
+            flush();
+        }
+    }
+
+    public synchronized void addGame(int gameId, Board start, int[] moves) throws IOException {
+        Board board = new Board(start);
+        add(gameId, board.getHash());
+        for (int move : moves) {
+            board.makeMove(move);
+            add(gameId, board.getHash());
+        }
+    }
+
+    public int[] find(long positionHash) {
+        int[] games = NO_GAMES;
+        int count = 0;
+        List<IndexSegment> searched;
+        // The buffer is read together with the segment list, so a flush in between cannot hide its postings.
+        synchronized (this) {
+            searched = segments;
+            int buffered = buffer.count(positionHash);
+            if (buffered > 0) {
+                games = new int[buffered];
+                count = buffer.get(positionHash, games, 0);
+            }
+        }
+        for (IndexSegment segment : searched) {
+            long key = segment.find(positionHash);
+            if (key >= 0) {
+                games = ensureCapacity(games, count + segment.postingCount(key));
+                count += segment.postings(key, games, count);
+            }
+        }
+        if (count == 0) {
+            return NO_GAMES;
+        }
+        return Arrays.copyOf(games, IndexSegment.sortDistinct(games, count));
+    }
+
+    public synchronized void flush() throws IOException {
+        if (buffer.valueCount() == 0) {
+            return;
+        }
+        long[] keys = buffer.sortedKeys();
+        Path path = segmentPath(nextSegmentId.getAndIncrement());
+        Path temporary = temporaryPath(path);
+        int[] ids = new int[16];
+        try (IndexSegment.Writer writer = new IndexSegment.Writer(temporary, keys.length)) {
+            for (long key : keys) {
+                ids = ensureCapacity(ids, buffer.count(key));
+                int count = buffer.get(key, ids, 0);
+                writer.add(key, ids, IndexSegment.sortDistinct(ids, count));
+            }
+        }
+        Files.move(temporary, path);
+        List<IndexSegment> updated = new ArrayList<>(segments);
+        updated.add(IndexSegment.open(path));
+        segments = List.copyOf(updated);
+        buffer.clear();
+        scheduleMergeIfNeeded();
+    }
+
+    public void awaitMerges() throws IOException {
+        while (true) {
+            Future<?> merge;
+            synchronized (this) {
+                merge = pendingMerge;
+                if (merge == null) {
+                    IOException failure = mergeFailure;
+                    mergeFailure = null;
+                    if (failure != null) {
+                        throw failure;
+                    }
+                    return;
+                }
+            }
+            try {
+                merge.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                throw new IOException("Segment merge failed", e.getCause());
+            }
+        }
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    public synchronized long postingCount() {
+        long postings = buffer.valueCount();
+        for (IndexSegment segment : segments) {
+            postings += segment.postingCount();
+        }
+        return postings;
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        awaitMerges();
+        merger.shutdown();
+        try {
+            merger.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void merge(List<IndexSegment> toMerge) {
+        Path path = segmentPath(nextSegmentId.getAndIncrement());
+        Path temporary = temporaryPath(path);
+        IndexSegment merged;
+        try {
+            SegmentMerger.merge(toMerge, temporary);
+            Files.move(temporary, path);
+            merged = IndexSegment.open(path);
+        } catch (IOException | RuntimeException e) {
+            // A failed merge leaves its inputs in place; clearing it lets a later flush retry, and the failure is
+            // reported to the next awaitMerges rather than to every one after it.
+            deleteQuietly(temporary);
+            deleteQuietly(path);
+            synchronized (this) {
+                mergeFailure = e instanceof IOException cause ? cause : new IOException("Segment merge failed", e);
+                pendingMerge = null;
+            }
+            return;
+        }
+        synchronized (this) {
+            List<IndexSegment> updated = new ArrayList<>(segments);
+            updated.removeAll(toMerge);
+            updated.add(merged);
+            segments = List.copyOf(updated);
+            pendingMerge = null;
+            scheduleMergeIfNeeded();
+        }
+        for (IndexSegment segment : toMerge) {
+            deleteQuietly(segment.path());
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // Leftovers are removed when the index is next opened.
+        }
+    }
+
+    // Size-tiered: segments are grouped by size in powers of the merge factor, and only mergeFactor segments of the
+    // same tier are merged together, so each posting is rewritten once per tier rather than on every merge.
+    private synchronized void scheduleMergeIfNeeded() {
+        if (pendingMerge != null) {
+            return;
+        }
+        Map<Integer, List<IndexSegment>> tiers = new TreeMap<>();
+        for (IndexSegment segment : segments) {
+            tiers.computeIfAbsent(tier(segment), tier -> new ArrayList<>()).add(segment);
+        }
+        for (List<IndexSegment> tier : tiers.values()) {
+            if (tier.size() >= mergeFactor) {
+                List<IndexSegment> toMerge = List.copyOf(tier.subList(0, mergeFactor));
+                pendingMerge = merger.submit(() -> merge(toMerge));
+                return;
+            }
+        }
+    }
+
+    // Tier 0 holds segments below half of mergeFactor flushes' worth of postings, and every further tier is
+    // mergeFactor times larger, so a merge of one full tier lands in the next one.
+    private int tier(IndexSegment segment) {
+        long bound = Math.max(1L, (long) flushThreshold * mergeFactor / 2);
+        int tier = 0;
+        while (segment.postingCount() >= bound && bound <= Long.MAX_VALUE / mergeFactor) {
+            bound *= mergeFactor;
+            tier++;
+        }
+        return tier;
+    }
+
+    private static int[] ensureCapacity(int[] games, int capacity) {
+        return capacity <= games.length ? games : Arrays.copyOf(games, Integer.highestOneBit(capacity) << 1);
+    }
+
+    private Path segmentPath(long id) {
+        return directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+    }
+
+    private static Path temporaryPath(Path path) {
+        return path.resolveSibling(path.getFileName() + TEMPORARY_SUFFIX);
+    }
+
+    private static long segmentId(String name) {
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,71 @@
+package com.chess.chess.index;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+final class SegmentMerger {
+
+    private SegmentMerger() {
+    }
+
+    static void merge(List<IndexSegment> segments, Path target) throws IOException {
+        long[] positions = new long[segments.size()];
+        long keyCount = 0;
+        while (hasRemaining(segments, positions)) {
+            advance(segments, positions, smallestKey(segments, positions));
+            keyCount++;
+        }
+
+        Arrays.fill(positions, 0);
+        int[] ids = new int[16];
+        try (IndexSegment.Writer writer = new IndexSegment.Writer(target, keyCount)) {
+            while (hasRemaining(segments, positions)) {
+                long key = smallestKey(segments, positions);
+                int count = 0;
+                for (int i = 0; i < segments.size(); i++) {
+                    IndexSegment segment = segments.get(i);
+                    if (positions[i] < segment.keyCount() && segment.key(positions[i]) == key) {
+                        int postings = segment.postingCount(positions[i]);
+                        if (count + postings > ids.length) {
+                            ids = Arrays.copyOf(ids, Integer.highestOneBit(count + postings) << 1);
+                        }
+                        count += segment.postings(positions[i], ids, count);
+                        positions[i]++;
+                    }
+                }
+                writer.add(key, ids, IndexSegment.sortDistinct(ids, count));
+            }
+        }
+    }
+
+    private static long smallestKey(List<IndexSegment> segments, long[] positions) {
+        long smallest = Long.MAX_VALUE;
+        for (int i = 0; i < segments.size(); i++) {
+            IndexSegment segment = segments.get(i);
+            if (positions[i] < segment.keyCount()) {
+                smallest = Math.min(smallest, segment.key(positions[i]));
+            }
+        }
+        return smallest;
+    }
+
+    private static boolean hasRemaining(List<IndexSegment> segments, long[] positions) {
+        for (int i = 0; i < segments.size(); i++) {
+            if (positions[i] < segments.get(i).keyCount()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void advance(List<IndexSegment> segments, long[] positions, long key) {
+        for (int i = 0; i < segments.size(); i++) {
+            IndexSegment segment = segments.get(i);
+            if (positions[i] < segment.keyCount() && segment.key(positions[i]) == key) {
+                positions[i]++;
+            }
+        }
+    }
+}
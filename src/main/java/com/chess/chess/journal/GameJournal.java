@@ -0,0 +1,304 @@
+package com.chess.chess.journal;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.BoardSnapshot;
+import com.chess.chess.model.PositionCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// Event-sourced persistence for game sessions: every creation, move and deletion goes to the MoveLog, and a
+// checkpoint of all live boards is written every checkpointInterval records so that recovery only replays the log
+// written since. A checkpoint is taken at a log position captured before the boards are read, and records each
+// game's own log position, so games that move while it is being written are neither lost nor replayed twice.
+public class GameJournal implements Closeable {
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 100_000;
+
+    // Header: magic (4 bytes), game count (4 bytes), log position (8 bytes), highest game id (8 bytes). Each game is
+    // its id (8 bytes), its log position (8 bytes), the plies played since it was created (4 bytes) and its board in
+    // PositionCodec format; a CRC32C of everything before it ends the file.
+    private static final int MAGIC = 0x324B4843;
+    private static final int HEADER_SIZE = 24;
+    private static final int PLY_OFFSET = 2 * Long.BYTES;
+    private static final int BOARD_OFFSET = PLY_OFFSET + Integer.BYTES;
+    private static final int ENTRY_SIZE = BOARD_OFFSET + PositionCodec.RECORD_SIZE;
+    private static final String CHECKPOINT_PREFIX = "checkpoint-";
+    private static final String CHECKPOINT_SUFFIX = ".chk";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private static final Logger logger = LoggerFactory.getLogger(GameJournal.class);
+    private static final GameJournal DISABLED = new GameJournal(null, null, 0);
+
+    public record GameState(long gameId, BoardSnapshot board, long logPosition, int ply) {
+    }
+
+    public record Checkpoint(long highestGameId, List<GameState> games) {
+    }
+
+    public record RecoveredGame(long gameId, Board board, long logPosition, int ply) {
+    }
+
+    public record Recovery(List<RecoveredGame> games, long highestGameId) {
+    }
+
+    private final Path directory;
+    private final MoveLog log;
+    private final int checkpointInterval;
+    private final AtomicLong recordsSinceCheckpoint = new AtomicLong();
+    private final AtomicBoolean checkpointRunning = new AtomicBoolean();
+    private final ExecutorService checkpointer;
+
+    private GameJournal(Path directory, MoveLog log, int checkpointInterval) {
+        this.directory = directory;
+        this.log = log;
+        this.checkpointInterval = checkpointInterval;
+        this.checkpointer = log == null ? null : Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "game-journal-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static GameJournal disabled() {
+        return DISABLED;
+    }
+
+    public static GameJournal open(Path directory) throws IOException {
+        return open(directory, MoveLog.DEFAULT_SEGMENT_SIZE, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    public static GameJournal open(Path directory, int segmentSize, int checkpointInterval) throws IOException {
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.filter(path -> path.toString().endsWith(TEMPORARY_SUFFIX)).toList()) {
+                Files.delete(path);
+            }
+        }
+        MoveLog log = new MoveLog(directory, segmentSize, MoveLog.DEFAULT_FLUSH_INTERVAL);
+        return new GameJournal(directory, log, checkpointInterval);
+    }
+
+    public boolean isEnabled() {
+        return log != null;
+    }
+
+    // The append methods return the log position to pass to awaitDurable; 0 when the journal is disabled.
+    public long created(long gameId, Board board) {
+        return log == null ? 0 : counted(log.appendCreated(gameId, board));
+    }
+
+    public long moved(long gameId, int move) {
+        return log == null ? 0 : counted(log.appendMove(gameId, move));
+    }
+
+    public long ended(long gameId) {
+        return log == null ? 0 : counted(log.appendEnded(gameId));
+    }
+
+    public void awaitDurable(long position) {
+        if (log != null) {
+            log.awaitDurable(position);
+        }
+    }
+
+    public MoveLog.Statistics statistics() {
+        return log == null ? new MoveLog.Statistics(0, 0) : log.statistics();
+    }
+
+    // Starts a background checkpoint once enough records have been appended since the last one.
+    public void checkpointIfDue(Supplier<Checkpoint> source) {
+        if (log == null || recordsSinceCheckpoint.get() < checkpointInterval ||
+                !checkpointRunning.compareAndSet(false, true)) {
+            return;
+        }
+        checkpointer.execute(() -> {
+            try {
+                checkpoint(source);
+            } catch (IOException | RuntimeException e) {
+                // The log keeps every record until a checkpoint succeeds, so a failed one only delays truncation.
+                logger.error("Background checkpoint failed", e);
+            } finally {
+                checkpointRunning.set(false);
+            }
+        });
+    }
+
+    public synchronized void checkpoint(Supplier<Checkpoint> source) throws IOException {
+        if (log == null) {
+            return;
+        }
+        long position = log.position();
+        recordsSinceCheckpoint.set(0);
+        Checkpoint checkpoint = source.get();
+        long newest = position;
+        for (GameState game : checkpoint.games()) {
+            newest = Math.max(newest, game.logPosition());
+        }
+        // A checkpoint must never be ahead of the log it replaces.
+        log.awaitDurable(newest);
+        Path path = directory.resolve(String.format("%s%020d%s", CHECKPOINT_PREFIX, position, CHECKPOINT_SUFFIX));
+        write(path, position, checkpoint);
+        for (Path older : checkpoints()) {
+            if (!older.equals(path)) {
+                Files.delete(older);
+            }
+        }
+        log.truncateBefore(position);
+    }
+
+    public Recovery recover() throws IOException {
+        if (log == null) {
+            return new Recovery(List.of(), 0);
+        }
+        Map<Long, RecoveredGame> games = new HashMap<>();
+        long[] highestGameId = {0};
+        long from = 0;
+        List<Path> checkpoints = checkpoints();
+        for (int i = checkpoints.size() - 1; i >= 0; i--) {
+            ByteBuffer buffer = read(checkpoints.get(i));
+            if (buffer != null) {
+                from = buffer.getLong(Integer.BYTES * 2);
+                highestGameId[0] = buffer.getLong(Integer.BYTES * 2 + Long.BYTES);
+                int count = buffer.getInt(Integer.BYTES);
+                for (int game = 0; game < count; game++) {
+                    int offset = HEADER_SIZE + game * ENTRY_SIZE;
+                    long gameId = buffer.getLong(offset);
+                    games.put(gameId, new RecoveredGame(gameId, PositionCodec.decode(buffer, offset + BOARD_OFFSET),
+                            buffer.getLong(offset + Long.BYTES), buffer.getInt(offset + PLY_OFFSET)));
+                }
+                break;
+            }
+        }
+        log.replay(from, new MoveLog.Visitor() {
+
+            @Override
+            public void created(long gameId, Board board, long position) {
+                highestGameId[0] = Math.max(highestGameId[0], gameId);
+                if (isNew(games.get(gameId), position)) {
+                    games.put(gameId, new RecoveredGame(gameId, board, position, 0));
+                }
+            }
+
+            @Override
+            public void moved(long gameId, int move, long position) {
+                RecoveredGame game = games.get(gameId);
+                if (game != null && isNew(game, position)) {
+                    game.board().makeMove(move);
+                    games.put(gameId, new RecoveredGame(gameId, game.board(), position, game.ply() + 1));
+                }
+            }
+
+            @Override
+            public void ended(long gameId, long position) {
+                if (isNew(games.get(gameId), position)) {
+                    games.remove(gameId);
+                }
+            }
+        });
+        List<RecoveredGame> recovered = new ArrayList<>(games.values());
+        recovered.sort((a, b) -> Long.compare(a.gameId(), b.gameId()));
+        return new Recovery(recovered, highestGameId[0]);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (log == null) {
+            return;
+        }
+        checkpointer.shutdown();
+        try {
+            checkpointer.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.close();
+    }
+
+    private long counted(long position) {
+        recordsSinceCheckpoint.incrementAndGet();
+        return position;
+    }
+
+    private static boolean isNew(RecoveredGame game, long position) {
+        return game == null || position > game.logPosition();
+    }
+
+    private static void write(Path path, long position, Checkpoint checkpoint) throws IOException {
+        List<GameState> games = checkpoint.games();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + games.size() * ENTRY_SIZE + Integer.BYTES).
+                order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(Integer.BYTES, games.size());
+        buffer.putLong(Integer.BYTES * 2, position);
+        buffer.putLong(Integer.BYTES * 2 + Long.BYTES, checkpoint.highestGameId());
+        for (int i = 0; i < games.size(); i++) {
+            GameState game = games.get(i);
+            int offset = HEADER_SIZE + i * ENTRY_SIZE;
+            buffer.putLong(offset, game.gameId());
+            buffer.putLong(offset + Long.BYTES, game.logPosition());
+            buffer.putInt(offset + PLY_OFFSET, game.ply());
+            PositionCodec.encode(game.board().toBoard(), buffer, offset + BOARD_OFFSET);
+        }
+        int end = buffer.capacity() - Integer.BYTES;
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, end);
+        buffer.putInt(end, (int) crc.getValue());
+
+        Path temporary = path.resolveSibling(path.getFileName() + TEMPORARY_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Null when the file is truncated or corrupt, in which case recovery tries the next older checkpoint.
+    private static ByteBuffer read(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.capacity() < HEADER_SIZE + Integer.BYTES || buffer.getInt(0) != MAGIC) {
+            return null;
+        }
+        int count = buffer.getInt(Integer.BYTES);
+        int end = HEADER_SIZE + count * ENTRY_SIZE;
+        if (count < 0 || buffer.capacity() != end + Integer.BYTES) {
+            return null;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, end);
+        return (int) crc.getValue() == buffer.getInt(end) ? buffer : null;
+    }
+
+    private List<Path> checkpoints() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(CHECKPOINT_PREFIX) && name.endsWith(CHECKPOINT_SUFFIX);
+            }).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.chess.chess.journal;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class JournalConfiguration {
+
+    @Bean
+    public GameJournal gameJournal(@Value("${chess.journal.directory}") String directory,
+                                   @Value("${chess.journal.checkpoint-interval}") int checkpointInterval)
+            throws IOException {
+        return directory.isBlank() ? GameJournal.disabled() :
+                GameJournal.open(Path.of(directory), MoveLog.DEFAULT_SEGMENT_SIZE, checkpointInterval);
+    }
+}
@@ -0,0 +1,398 @@
+package com.chess.chess.journal;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.PositionCodec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// Append-only log of game events in preallocated, memory-mapped segment files. Positions are byte offsets across all
+// segments; a record that does not fit in the current segment starts the next one, leaving a zeroed gap. Appends
+// only copy into the mapping, and a flusher thread forces whatever has accumulated since its last flush, so every
+// writer waiting in awaitDurable shares one msync (group commit).
+public class MoveLog implements Closeable {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(10);
+
+    static final int HEADER_SIZE = 16;
+    static final int CREATED = 1;
+    static final int MOVED = 2;
+    static final int ENDED = 3;
+
+    // Header: CRC32C of the rest of the record (4 bytes), type (1 byte), reserved (1 byte), move (2 bytes),
+    // game id (8 bytes). A created record is followed by the start position in PositionCodec format.
+    private static final int TYPE_OFFSET = 4;
+    private static final int MOVE_OFFSET = 6;
+    private static final int GAME_OFFSET = 8;
+    private static final int MAX_RECORD_SIZE = HEADER_SIZE + PositionCodec.RECORD_SIZE;
+    private static final String SEGMENT_PREFIX = "moves-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    public interface Visitor {
+
+        void created(long gameId, Board board, long position);
+
+        void moved(long gameId, int move, long position);
+
+        void ended(long gameId, long position);
+    }
+
+    public record Statistics(long records, long commits) {
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long flushIntervalNanos;
+    private final List<Segment> segments = new ArrayList<>();
+    private final byte[] scratch = new byte[MAX_RECORD_SIZE];
+    private final ByteBuffer scratchBuffer = ByteBuffer.wrap(scratch).order(ByteOrder.LITTLE_ENDIAN);
+    private final CRC32C crc = new CRC32C();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushRequested = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private final Thread flusher;
+    private long written;
+    private long durable;
+    private long requested;
+    private long records;
+    private long commits;
+    private boolean closed;
+    private RuntimeException failure;
+
+    public MoveLog(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    public MoveLog(Path directory, int segmentSize, Duration flushInterval) throws IOException {
+        if (segmentSize < MAX_RECORD_SIZE || segmentSize % HEADER_SIZE != 0) {
+            throw new IllegalArgumentException("Invalid segment size: " + segmentSize);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.sorted().toList()) {
+                String name = path.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    long base = Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length()));
+                    segments.add(Segment.map(path, base, (int) Files.size(path)));
+                }
+            }
+        }
+        if (segments.isEmpty()) {
+            segments.add(createSegment(0));
+        }
+        written = recoverEnd();
+        durable = written;
+        requested = written;
+        flusher = new Thread(this::flushLoop, "move-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    public long appendCreated(long gameId, Board board) {
+        return append(CREATED, gameId, 0, board);
+    }
+
+    public long appendMove(long gameId, int move) {
+        return append(MOVED, gameId, move, null);
+    }
+
+    public long appendEnded(long gameId) {
+        return append(ENDED, gameId, 0, null);
+    }
+
+    // Blocks until every record ending at or before position is on disk.
+    public void awaitDurable(long position) {
+        lock.lock();
+        try {
+            while (durable < position) {
+                if (closed) {
+                    throw new IllegalStateException("Move log is closed", failure);
+                }
+                requested = Math.max(requested, position);
+                flushRequested.signal();
+                flushed.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long position() {
+        lock.lock();
+        try {
+            return written;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Statistics statistics() {
+        lock.lock();
+        try {
+            return new Statistics(records, commits);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Visits, in log order, every record that ends after from. Only called before appends start or on positions
+    // that are already durable.
+    public void replay(long from, Visitor visitor) {
+        List<Segment> current;
+        long end;
+        lock.lock();
+        try {
+            current = List.copyOf(segments);
+            end = written;
+        } finally {
+            lock.unlock();
+        }
+        for (Segment segment : current) {
+            int offset = 0;
+            while (offset + HEADER_SIZE <= segment.size && segment.base + offset < end) {
+                ByteBuffer buffer = segment.buffer;
+                int type = buffer.get(offset + TYPE_OFFSET);
+                if (type == 0) {
+                    break;
+                }
+                int size = recordSize(type);
+                long position = segment.base + offset + size;
+                if (position > from) {
+                    long gameId = buffer.getLong(offset + GAME_OFFSET);
+                    switch (type) {
+                        case CREATED -> visitor.created(gameId, PositionCodec.decode(buffer, offset + HEADER_SIZE),
+                                position);
+                        case MOVED -> visitor.moved(gameId, Short.toUnsignedInt(buffer.getShort(offset + MOVE_OFFSET)),
+                                position);
+                        default -> visitor.ended(gameId, position);
+                    }
+                }
+                offset += size;
+            }
+        }
+    }
+
+    // Deletes segments that only hold records ending at or before position.
+    public void truncateBefore(long position) throws IOException {
+        List<Segment> obsolete = new ArrayList<>();
+        lock.lock();
+        try {
+            while (segments.size() > 1 && segments.get(1).base <= position) {
+                obsolete.add(segments.remove(0));
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Segment segment : obsolete) {
+            Files.delete(segment.path);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            requested = written;
+            flushRequested.signal();
+            while (durable < written && failure == null) {
+                flushed.awaitUninterruptibly();
+            }
+            closed = true;
+            flushRequested.signal();
+            flushed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long append(int type, long gameId, int move, Board board) {
+        int size = recordSize(type);
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Move log is closed", failure);
+            }
+            Segment segment = segments.get(segments.size() - 1);
+            int offset = (int) (written - segment.base);
+            if (offset + size > segment.size) {
+                segment = roll(segment);
+                offset = 0;
+            }
+            scratchBuffer.put(TYPE_OFFSET, (byte) type);
+            scratchBuffer.put(TYPE_OFFSET + 1, (byte) 0);
+            scratchBuffer.putShort(MOVE_OFFSET, (short) move);
+            scratchBuffer.putLong(GAME_OFFSET, gameId);
+            if (board != null) {
+                PositionCodec.encode(board, scratchBuffer, HEADER_SIZE);
+            }
+            crc.reset();
+            crc.update(scratch, TYPE_OFFSET, size - TYPE_OFFSET);
+            scratchBuffer.putInt(0, (int) crc.getValue());
+            segment.buffer.put(offset, scratch, 0, size);
+            written = segment.base + offset + size;
+            records++;
+            return written;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Called with the lock held. The full segment is forced before the next one is used, so the flusher never needs
+    // to look further back than the last segment.
+    private Segment roll(Segment full) {
+        try {
+            full.buffer.force();
+            commits++;
+            Segment next = createSegment(full.base + full.size);
+            segments.add(next);
+            written = next.base;
+            durable = Math.max(durable, next.base);
+            flushed.signalAll();
+            return next;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flushLoop() {
+        lock.lock();
+        try {
+            while (!closed) {
+                if (requested <= durable) {
+                    flushRequested.awaitNanos(flushIntervalNanos);
+                }
+                if (written <= durable) {
+                    continue;
+                }
+                Segment segment = segments.get(segments.size() - 1);
+                long target = written;
+                long from = Math.max(durable, segment.base);
+                lock.unlock();
+                try {
+                    segment.buffer.force((int) (from - segment.base), (int) (target - from));
+                } catch (RuntimeException e) {
+                    failure = e;
+                } finally {
+                    lock.lock();
+                }
+                if (failure != null) {
+                    closed = true;
+                    flushed.signalAll();
+                    return;
+                }
+                commits++;
+                durable = Math.max(durable, target);
+                flushed.signalAll();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Finds the end of the last intact record and zeroes anything after it, so a torn write can never be followed by
+    // stale records that would be replayed after later appends.
+    private long recoverEnd() throws IOException {
+        for (int index = 0; index < segments.size(); index++) {
+            Segment segment = segments.get(index);
+            int offset = 0;
+            boolean torn = false;
+            while (offset + HEADER_SIZE <= segment.size) {
+                int type = segment.buffer.get(offset + TYPE_OFFSET);
+                if (type == 0 && segment.buffer.getInt(offset) == 0) {
+                    break;
+                }
+                if (!isIntact(segment.buffer, offset, type)) {
+                    torn = true;
+                    break;
+                }
+                offset += recordSize(type);
+            }
+            boolean last = index == segments.size() - 1;
+            if (torn || last) {
+                zero(segment, offset);
+                while (segments.size() > index + 1) {
+                    Files.delete(segments.remove(index + 1).path);
+                }
+                return segment.base + offset;
+            }
+        }
+        throw new IllegalStateException("No segments");
+    }
+
+    private boolean isIntact(ByteBuffer buffer, int offset, int type) {
+        if (type != CREATED && type != MOVED && type != ENDED) {
+            return false;
+        }
+        int size = recordSize(type);
+        if (offset + size > buffer.capacity()) {
+            return false;
+        }
+        crc.reset();
+        crc.update(buffer.slice(offset + TYPE_OFFSET, size - TYPE_OFFSET));
+        return (int) crc.getValue() == buffer.getInt(offset);
+    }
+
+    private static void zero(Segment segment, int from) {
+        boolean dirty = false;
+        for (int offset = from; offset + Long.BYTES <= segment.size; offset += Long.BYTES) {
+            if (segment.buffer.getLong(offset) != 0) {
+                segment.buffer.putLong(offset, 0);
+                dirty = true;
+            }
+        }
+        if (dirty) {
+            segment.buffer.force();
+        }
+    }
+
+    private static int recordSize(int type) {
+        return type == CREATED ? MAX_RECORD_SIZE : HEADER_SIZE;
+    }
+
+    private Segment createSegment(long base) throws IOException {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, base, SEGMENT_SUFFIX));
+        return Segment.map(path, base, segmentSize);
+    }
+
+    private record Segment(Path path, long base, int size, MappedByteBuffer buffer) {
+
+        static Segment map(Path path, long base, int size) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                return new Segment(path, base, size, buffer);
+            }
+        }
+    }
+}
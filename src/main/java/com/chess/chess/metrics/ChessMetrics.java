@@ -0,0 +1,79 @@
+package com.chess.chess.metrics;
+
+import com.chess.chess.engine.LazySmpSearch;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+// Publishes the Instrumentation counters and the engine's cache statistics. The meters only read existing counters
+// when scraped, so binding them costs nothing on the hot paths. The cache meters report NaN and 0 until the engine
+// exists, so a scrape never builds it.
+public class ChessMetrics implements MeterBinder {
+
+    private static final double[] QUANTILES = {0.5, 0.99};
+
+    private final Supplier<LazySmpSearch> search;
+
+    public ChessMetrics(LazySmpSearch search) {
+        this(() -> search);
+    }
+
+    // The supplier returns null while the engine has not been created.
+    public ChessMetrics(Supplier<LazySmpSearch> search) {
+        this.search = search;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Operation operation : Operation.values()) {
+            if (!operation.isTimed()) {
+                FunctionCounter.builder("chess.operations", operation, Instrumentation::count)
+                        .tag("operation", operation.tag())
+                        .register(registry);
+                continue;
+            }
+            FunctionTimer.builder("chess.operation.latency", operation, Instrumentation::count,
+                            Instrumentation::totalNanos, TimeUnit.NANOSECONDS)
+                    .tag("operation", operation.tag())
+                    .register(registry);
+            for (double quantile : QUANTILES) {
+                Gauge.builder("chess.operation.latency.percentile", operation,
+                                timed -> Instrumentation.percentileNanos(timed, quantile))
+                        .tag("operation", operation.tag())
+                        .tag("quantile", Double.toString(quantile))
+                        .baseUnit("nanoseconds")
+                        .register(registry);
+            }
+        }
+        Gauge.builder("chess.cache.hit.ratio", search,
+                        engine -> ratio(engine.get(), created -> created.getTranspositionTable().statistics().hitRate()))
+                .tag("cache", "transposition")
+                .register(registry);
+        Gauge.builder("chess.cache.hit.ratio", search,
+                        engine -> ratio(engine.get(), created -> created.pawnHashStatistics().hitRate()))
+                .tag("cache", "pawn")
+                .register(registry);
+        FunctionCounter.builder("chess.cache.collisions", search,
+                        engine -> count(engine.get(), created -> created.getTranspositionTable().statistics().collisions()))
+                .tag("cache", "transposition")
+                .register(registry);
+        FunctionCounter.builder("chess.cache.collisions", search,
+                        engine -> count(engine.get(), created -> created.pawnHashStatistics().replacements()))
+                .tag("cache", "pawn")
+                .register(registry);
+    }
+
+    private static double ratio(LazySmpSearch engine, ToDoubleFunction<LazySmpSearch> statistic) {
+        return engine == null ? Double.NaN : statistic.applyAsDouble(engine);
+    }
+
+    private static double count(LazySmpSearch engine, ToDoubleFunction<LazySmpSearch> statistic) {
+        return engine == null ? 0 : statistic.applyAsDouble(engine);
+    }
+}
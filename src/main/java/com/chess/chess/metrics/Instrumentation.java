@@ -0,0 +1,93 @@
+package com.chess.chess.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Process-wide counters and log2 latency histograms for the rules and search hot paths. Call sites guard every use
+// with ENABLED, which is read once from -Dchess.instrumentation so the JIT drops the guarded code when it is off.
+public final class Instrumentation {
+
+    public static final boolean ENABLED = Boolean.getBoolean("chess.instrumentation");
+
+    private static final int BUCKETS = 48;
+    private static final int OPERATIONS = Operation.values().length;
+    private static final LongAdder[] COUNTS = new LongAdder[OPERATIONS];
+    private static final LongAdder[] TOTAL_NANOS = new LongAdder[OPERATIONS];
+    // Bucket i counts latencies in [2^i, 2^(i+1)) nanoseconds.
+    private static final LongAdder[] HISTOGRAMS = new LongAdder[OPERATIONS * BUCKETS];
+
+    static {
+        for (int operation = 0; operation < OPERATIONS; operation++) {
+            COUNTS[operation] = new LongAdder();
+            TOTAL_NANOS[operation] = new LongAdder();
+        }
+        for (int bucket = 0; bucket < HISTOGRAMS.length; bucket++) {
+            HISTOGRAMS[bucket] = new LongAdder();
+        }
+    }
+
+    private Instrumentation() {
+    }
+
+    public static void record(Operation operation, long startNanos) {
+        long elapsed = Math.max(0, System.nanoTime() - startNanos);
+        int index = operation.ordinal();
+        COUNTS[index].increment();
+        TOTAL_NANOS[index].add(elapsed);
+        HISTOGRAMS[index * BUCKETS + Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(elapsed | 1))].increment();
+        if (operation.emitsEvents()) {
+            OperationEvent event = new OperationEvent();
+            if (event.shouldCommit()) {
+                event.operation = operation.tag();
+                event.latency = elapsed;
+                event.commit();
+            }
+        }
+    }
+
+    public static void increment(Operation operation) {
+        COUNTS[operation.ordinal()].increment();
+    }
+
+    public static void add(Operation operation, long amount) {
+        COUNTS[operation.ordinal()].add(amount);
+    }
+
+    public static long count(Operation operation) {
+        return COUNTS[operation.ordinal()].sum();
+    }
+
+    public static long totalNanos(Operation operation) {
+        return TOTAL_NANOS[operation.ordinal()].sum();
+    }
+
+    // Upper bound of the histogram bucket holding the given quantile, so accurate to within a factor of two.
+    public static long percentileNanos(Operation operation, double quantile) {
+        int first = operation.ordinal() * BUCKETS;
+        long total = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            total += HISTOGRAMS[first + bucket].sum();
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += HISTOGRAMS[first + bucket].sum();
+            if (seen >= rank) {
+                return 2L << bucket;
+            }
+        }
+        return 2L << (BUCKETS - 1);
+    }
+
+    public static void reset() {
+        for (int operation = 0; operation < OPERATIONS; operation++) {
+            COUNTS[operation].reset();
+            TOTAL_NANOS[operation].reset();
+        }
+        for (LongAdder bucket : HISTOGRAMS) {
+            bucket.reset();
+        }
+    }
+}
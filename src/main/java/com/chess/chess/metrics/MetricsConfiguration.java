@@ -0,0 +1,19 @@
+package com.chess.chess.metrics;
+
+import com.chess.chess.engine.LazySmpSearch;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfiguration {
+
+    private static final String ENGINE_BEAN = "lazySmpSearch";
+
+    // Only hands out the engine once something else has created it, so scraping the cache gauges never builds it.
+    @Bean
+    public ChessMetrics chessMetrics(ConfigurableListableBeanFactory beanFactory) {
+        return new ChessMetrics(() -> beanFactory.containsSingleton(ENGINE_BEAN)
+                ? beanFactory.getBean(ENGINE_BEAN, LazySmpSearch.class) : null);
+    }
+}
@@ -0,0 +1,32 @@
+package com.chess.chess.metrics;
+
+public enum Operation {
+    MOVE("move", true, true),
+    PIECE_LOOKUP("piece-lookup", false, false),
+    MOVE_GENERATION("move-generation", true, false),
+    SEARCH("search", true, false),
+    SEARCH_NODE("search-node", false, false);
+
+    private final String tag;
+    private final boolean timed;
+    private final boolean emitsEvents;
+
+    Operation(String tag, boolean timed, boolean emitsEvents) {
+        this.tag = tag;
+        this.timed = timed;
+        this.emitsEvents = emitsEvents;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    // Lookups and nodes are only counted: they take a few nanoseconds, less than reading the clock twice.
+    public boolean isTimed() {
+        return timed;
+    }
+
+    boolean emitsEvents() {
+        return emitsEvents;
+    }
+}
@@ -0,0 +1,22 @@
+package com.chess.chess.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.chess.Operation")
+@Label("Chess Operation")
+@Category({"Chess", "Rules"})
+@StackTrace(false)
+class OperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+}
@@ -0,0 +1,34 @@
+package com.chess.chess.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// One event per search thread per search; its duration lines up with GC and thread events in the same recording.
+@Name("com.chess.Search")
+@Label("Chess Search")
+@Category({"Chess", "Engine"})
+@StackTrace(false)
+public class SearchEvent extends Event {
+
+    @Label("Depth")
+    int depth;
+
+    @Label("Nodes")
+    long nodes;
+
+    @Label("Score")
+    int score;
+
+    public void finish(int depth, long nodes, int score) {
+        end();
+        if (shouldCommit()) {
+            this.depth = depth;
+            this.nodes = nodes;
+            this.score = score;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.chess.chess.model;
+
+public final class Attacks {
+
+    public static final long FILE_A = 0x0101010101010101L;
+    public static final long FILE_H = FILE_A << 7;
+    public static final long RANK_1 = 0xFFL;
+    public static final long RANK_2 = RANK_1 << 8;
+    public static final long RANK_3 = RANK_1 << 16;
+    public static final long RANK_6 = RANK_1 << 40;
+    public static final long RANK_7 = RANK_1 << 48;
+    public static final long RANK_8 = RANK_1 << 56;
+
+    private static final int NORTH = 0;
+    private static final int NORTH_EAST = 1;
+    private static final int EAST = 2;
+    private static final int NORTH_WEST = 3;
+    private static final int SOUTH = 4;
+    private static final int SOUTH_WEST = 5;
+    private static final int WEST = 6;
+    private static final int SOUTH_EAST = 7;
+    private static final int[][] DIRECTIONS = {
+            {0, 1}, {1, 1}, {1, 0}, {-1, 1}, {0, -1}, {-1, -1}, {-1, 0}, {1, -1}
+    };
+    private static final int[][] KNIGHT_STEPS = {
+            {1, 2}, {2, 1}, {2, -1}, {1, -2}, {-1, -2}, {-2, -1}, {-2, 1}, {-1, 2}
+    };
+
+    private static final long[] KNIGHT = new long[Board.SQUARES];
+    private static final long[] KING = new long[Board.SQUARES];
+    private static final long[][] PAWN = new long[2][Board.SQUARES];
+    private static final long[][] RAYS = new long[DIRECTIONS.length][Board.SQUARES];
+    private static final long[][] BETWEEN = new long[Board.SQUARES][Board.SQUARES];
+    private static final long[][] LINE = new long[Board.SQUARES][Board.SQUARES];
+
+    static {
+        for (int square = 0; square < Board.SQUARES; square++) {
+            for (int[] step : KNIGHT_STEPS) {
+                KNIGHT[square] |= offset(square, step[0], step[1]);
+            }
+            for (int direction = 0; direction < DIRECTIONS.length; direction++) {
+                int[] step = DIRECTIONS[direction];
+                KING[square] |= offset(square, step[0], step[1]);
+                for (int distance = 1; distance < Board.SIZE; distance++) {
+                    RAYS[direction][square] |= offset(square, step[0] * distance, step[1] * distance);
+                }
+            }
+            PAWN[Color.WHITE.ordinal()][square] = offset(square, -1, 1) | offset(square, 1, 1);
+            PAWN[Color.BLACK.ordinal()][square] = offset(square, -1, -1) | offset(square, 1, -1);
+        }
+        for (int square = 0; square < Board.SQUARES; square++) {
+            for (int direction = 0; direction < DIRECTIONS.length; direction++) {
+                long line = RAYS[direction][square] | RAYS[(direction + 4) % DIRECTIONS.length][square] |
+                        1L << square;
+                long ray = RAYS[direction][square];
+                while (ray != 0) {
+                    int target = Long.numberOfTrailingZeros(ray);
+                    ray &= ray - 1;
+                    BETWEEN[square][target] = RAYS[direction][square] & ~RAYS[direction][target] & ~(1L << target);
+                    LINE[square][target] = line;
+                }
+            }
+        }
+    }
+
+    private Attacks() {
+    }
+
+    public static long knight(int square) {
+        return KNIGHT[square];
+    }
+
+    public static long king(int square) {
+        return KING[square];
+    }
+
+    public static long pawn(Color color, int square) {
+        return PAWN[color.ordinal()][square];
+    }
+
+    public static long bishop(int square, long occupied) {
+        return positiveRay(NORTH_EAST, square, occupied) | positiveRay(NORTH_WEST, square, occupied) |
+                negativeRay(SOUTH_EAST, square, occupied) | negativeRay(SOUTH_WEST, square, occupied);
+    }
+
+    public static long rook(int square, long occupied) {
+        return positiveRay(NORTH, square, occupied) | positiveRay(EAST, square, occupied) |
+                negativeRay(SOUTH, square, occupied) | negativeRay(WEST, square, occupied);
+    }
+
+    public static long queen(int square, long occupied) {
+        return bishop(square, occupied) | rook(square, occupied);
+    }
+
+    public static long between(int from, int to) {
+        return BETWEEN[from][to];
+    }
+
+    public static long line(int from, int to) {
+        return LINE[from][to];
+    }
+
+    private static long positiveRay(int direction, int square, long occupied) {
+        long ray = RAYS[direction][square];
+        long blockers = ray & occupied;
+        if (blockers != 0) {
+            ray ^= RAYS[direction][Long.numberOfTrailingZeros(blockers)];
+        }
+        return ray;
+    }
+
+    private static long negativeRay(int direction, int square, long occupied) {
+        long ray = RAYS[direction][square];
+        long blockers = ray & occupied;
+        if (blockers != 0) {
+            ray ^= RAYS[direction][63 - Long.numberOfLeadingZeros(blockers)];
+        }
+        return ray;
+    }
+
+    private static long offset(int square, int files, int ranks) {
+        int file = square % Board.SIZE + files;
+        int rank = square / Board.SIZE + ranks;
+        if (file < 0 || file >= Board.SIZE || rank < 0 || rank >= Board.SIZE) {
+            return 0L;
+        }
+        return 1L << (rank * Board.SIZE + file);
+    }
+}
@@ -0,0 +1,18 @@
+package com.chess.chess.model;
+
+public class Bishop extends Piece {
+
+    public Bishop(Color color, Position position) {
+        super(color, position);
+    }
+
+    @Override
+    public PieceType getType() {
+        return PieceType.BISHOP;
+    }
+
+    @Override
+    protected int checkMove(int targetSquare, Board board) {
+        return checkReachable(Attacks.bishop(getSquare(), board.occupancy()), targetSquare, board);
+    }
+}
@@ -1,46 +1,583 @@
 package com.chess.chess.model;
 
-import java.util.ArrayList;
+import com.chess.chess.metrics.Instrumentation;
+import com.chess.chess.metrics.Operation;
+
+import java.util.Arrays;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
 public class Board {
 
     public static final int SIZE = 8;
-    private final List<Piece> pieces;
+    public static final int SQUARES = SIZE * SIZE;
+    public static final int NO_SQUARE = -1;
+
+    public static final int WHITE_KINGSIDE = 1;
+    public static final int WHITE_QUEENSIDE = 2;
+    public static final int BLACK_KINGSIDE = 4;
+    public static final int BLACK_QUEENSIDE = 8;
+
+    private static final int INITIAL_UNDO_CAPACITY = 256;
+    private static final int ATTACKS = 0;
+    private static final int CHECKERS = 2;
+    private static final int PINNED = 4;
+    private static final int ATTACK_INFO_SIZE = 6;
+    private static final int KING_INFO_VALID = 4;
+    private static final int PROMOTION_TYPE_MASK = 3;
+    private static final int[] CASTLING_MASKS = new int[SQUARES];
+
+    static {
+        Arrays.fill(CASTLING_MASKS, WHITE_KINGSIDE | WHITE_QUEENSIDE | BLACK_KINGSIDE | BLACK_QUEENSIDE);
+        CASTLING_MASKS[0] &= ~WHITE_QUEENSIDE;
+        CASTLING_MASKS[4] &= ~(WHITE_KINGSIDE | WHITE_QUEENSIDE);
+        CASTLING_MASKS[7] &= ~WHITE_KINGSIDE;
+        CASTLING_MASKS[56] &= ~BLACK_QUEENSIDE;
+        CASTLING_MASKS[60] &= ~(BLACK_KINGSIDE | BLACK_QUEENSIDE);
+        CASTLING_MASKS[63] &= ~BLACK_KINGSIDE;
+    }
+
+    private final Piece[] squares = new Piece[SQUARES];
+    private final long[] bitboards = new long[2 * PieceType.COUNT];
+    private final long[] occupancy = new long[2];
+    private Color sideToMove = Color.WHITE;
+    private int castlingRights;
+    private int enPassantSquare = NO_SQUARE;
+    private long hash;
+    private long pawnHash;
+    private int halfmoveClock;
+    private int fullmoveNumber = 1;
+    private final long[] attackInfo = new long[ATTACK_INFO_SIZE];
+    private int attackInfoValid;
+    private int pieceSquareScore;
+    private int phase;
+
+    private int ply;
+    private int[] undoMoves = new int[INITIAL_UNDO_CAPACITY];
+    private Piece[] undoMovedPieces = new Piece[INITIAL_UNDO_CAPACITY];
+    private Piece[] undoCapturedPieces = new Piece[INITIAL_UNDO_CAPACITY];
+    private boolean[] undoPawnInInitialPosition = new boolean[INITIAL_UNDO_CAPACITY];
+    private int[] undoCastlingRights = new int[INITIAL_UNDO_CAPACITY];
+    private int[] undoEnPassantSquares = new int[INITIAL_UNDO_CAPACITY];
+    private long[] undoHashes = new long[INITIAL_UNDO_CAPACITY];
+    private int[] undoHalfmoveClocks = new int[INITIAL_UNDO_CAPACITY];
+    private long[] undoAttackInfo = new long[INITIAL_UNDO_CAPACITY * ATTACK_INFO_SIZE];
+    private int[] undoAttackInfoValid = new int[INITIAL_UNDO_CAPACITY];
 
     public Board(List<Piece> pieces) {
-        this.pieces = new ArrayList<>(pieces);
+        for (Piece piece : pieces) {
+            validatePosition(piece.getPosition());
+            if (squares[piece.getSquare()] != null) {
+                throw new InvalidPositionException();
+            }
+            put(piece, piece.getSquare());
+        }
+    }
+
+    public Board(Board other) {
+        for (int square = 0; square < SQUARES; square++) {
+            if (other.squares[square] != null) {
+                put(other.squares[square].copy(), square);
+            }
+        }
+        sideToMove = other.sideToMove;
+        castlingRights = other.castlingRights;
+        enPassantSquare = other.enPassantSquare;
+        halfmoveClock = other.halfmoveClock;
+        fullmoveNumber = other.fullmoveNumber;
+        hash = other.hash;
+        // Repetition detection looks back halfmoveClock plies, so the copy carries that window of position hashes.
+        // Only the hashes are copied: the copy cannot unmake moves played before it was taken.
+        int history = Math.min(other.ply, other.halfmoveClock);
+        while (history > undoHashes.length) {
+            growUndoStack();
+        }
+        System.arraycopy(other.undoHashes, other.ply - history, undoHashes, 0, history);
+        ply = history;
     }
 
     public void move(Piece piece, Position targetPosition) {
-        validatePosition(targetPosition);
-        piece.moveTo(targetPosition, this);
+        MoveStatus.throwIfInvalid(tryMove(piece, targetPosition));
+    }
+
+    public int tryMove(Piece piece, Position targetPosition) {
+        long start = Instrumentation.ENABLED ? System.nanoTime() : 0;
+        int status = checkMove(piece, targetPosition);
+        if (status == MoveStatus.LEGAL) {
+            makeMove(toMove(piece, targetPosition.square()));
+        }
+        if (Instrumentation.ENABLED) {
+            Instrumentation.record(Operation.MOVE, start);
+        }
+        return status;
+    }
+
+    public int checkMove(Piece piece, Position targetPosition) {
+        if (!targetPosition.isOnBoard()) {
+            return MoveStatus.OUT_OF_BOARD;
+        }
+        if (!piece.getPosition().isOnBoard() || squares[piece.getSquare()] != piece) {
+            return MoveStatus.PIECE_NOT_ON_BOARD;
+        }
+        int status = piece.checkMove(targetPosition.square(), this);
+        if (status == MoveStatus.LEGAL && !keepsKingSafe(toMove(piece, targetPosition.square()), piece.color)) {
+            return MoveStatus.LEAVES_KING_IN_CHECK;
+        }
+        return status;
+    }
+
+    public int checkMove(int move) {
+        int to = Move.to(move);
+        Piece piece = squares[Move.from(move)];
+        if (piece == null) {
+            return MoveStatus.PIECE_NOT_ON_BOARD;
+        }
+        if (piece.color != sideToMove) {
+            return MoveStatus.NOT_SIDE_TO_MOVE;
+        }
+        int status = piece.checkMove(to, this);
+        if (status != MoveStatus.LEGAL) {
+            return status;
+        }
+        int flag = Move.flag(move);
+        int expected = toMove(piece, to);
+        int expectedFlag = Move.flag(expected);
+        boolean consistent = Move.isPromotion(move) && Move.isPromotion(expected) ?
+                (flag & ~PROMOTION_TYPE_MASK) == (expectedFlag & ~PROMOTION_TYPE_MASK) : flag == expectedFlag;
+        if (!consistent) {
+            return MoveStatus.INCONSISTENT_FLAG;
+        }
+        return keepsKingSafe(move, sideToMove) ? MoveStatus.LEGAL : MoveStatus.LEAVES_KING_IN_CHECK;
+    }
+
+    public boolean isLegalMove(int move) {
+        return keepsKingSafe(move, sideToMove);
+    }
+
+    public boolean isLegal(Piece piece, Position targetPosition) {
+        return checkMove(piece, targetPosition) == MoveStatus.LEGAL;
     }
 
     public Optional<Piece> pieceAtPosition(Position targetPosition) {
+        if (Instrumentation.ENABLED) {
+            Instrumentation.increment(Operation.PIECE_LOOKUP);
+        }
         validatePosition(targetPosition);
-        return pieces.stream().
-                filter(piece -> piece.getPosition().equals(targetPosition)).
-                findFirst();
+        return Optional.ofNullable(squares[targetPosition.square()]);
+    }
+
+    public void move(Piece piece, int targetSquare) {
+        move(piece, Position.of(targetSquare));
+    }
+
+    public Piece pieceAt(int square) {
+        return squares[square];
     }
 
     public void removePieceAtPosition(Position position) {
         validatePosition(position);
-        Piece pieceToRemove = pieces.stream().
-                filter(piece -> piece.getPosition().equals(position)).
-                findFirst().orElseThrow();
-        pieces.remove(pieceToRemove);
+        removePieceAt(position.square());
+    }
+
+    public void removePieceAt(int square) {
+        if (squares[square] == null) {
+            throw new NoSuchElementException();
+        }
+        remove(square);
     }
 
     public boolean isPieceOnBoard(Piece piece) {
-        return pieces.contains(piece);
+        Position position = piece.getPosition();
+        return position.isOnBoard() && piece.equals(squares[position.square()]);
+    }
+
+    public long bitboard(Color color, PieceType type) {
+        return bitboards[bitboardIndex(color, type)];
+    }
+
+    public long occupancy(Color color) {
+        return occupancy[color.ordinal()];
+    }
+
+    public long occupancy() {
+        return occupancy[0] | occupancy[1];
+    }
+
+    public boolean isSquareAttacked(int square, Color attacker) {
+        return attackersTo(square, attacker, occupancy()) != 0;
+    }
+
+    public boolean isKingAttacked(Color color) {
+        return checkers(color) != 0;
+    }
+
+    public boolean isInCheck() {
+        return checkers(sideToMove) != 0;
+    }
+
+    public long attacks(Color color) {
+        int side = color.ordinal();
+        if ((attackInfoValid & (1 << side)) == 0) {
+            attackInfo[ATTACKS + side] = computeAttacks(color);
+            attackInfoValid |= 1 << side;
+        }
+        return attackInfo[ATTACKS + side];
+    }
+
+    public long checkers(Color color) {
+        ensureKingInfo(color);
+        return attackInfo[CHECKERS + color.ordinal()];
+    }
+
+    public long pinned(Color color) {
+        ensureKingInfo(color);
+        return attackInfo[PINNED + color.ordinal()];
+    }
+
+    public boolean isRepetition() {
+        int earliest = Math.max(0, ply - halfmoveClock);
+        for (int previous = ply - 2; previous >= earliest; previous -= 2) {
+            if (undoHashes[previous] == hash) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Color getSideToMove() {
+        return sideToMove;
+    }
+
+    public int getCastlingRights() {
+        return castlingRights;
+    }
+
+    public int getEnPassantSquare() {
+        return enPassantSquare;
+    }
+
+    public long getHash() {
+        return hash;
+    }
+
+    public long getPawnHash() {
+        return pawnHash;
+    }
+
+    public int getPieceSquareScore() {
+        return pieceSquareScore;
+    }
+
+    public int getPhase() {
+        return phase;
+    }
+
+    public int getHalfmoveClock() {
+        return halfmoveClock;
+    }
+
+    public int getFullmoveNumber() {
+        return fullmoveNumber;
+    }
+
+    void setSideToMove(Color sideToMove) {
+        hash ^= Zobrist.sideToMove(this.sideToMove) ^ Zobrist.sideToMove(sideToMove);
+        this.sideToMove = sideToMove;
+    }
+
+    void setCastlingRights(int castlingRights) {
+        hash ^= Zobrist.castling(this.castlingRights) ^ Zobrist.castling(castlingRights);
+        this.castlingRights = castlingRights;
+    }
+
+    void setEnPassantSquare(int enPassantSquare) {
+        hash ^= Zobrist.enPassant(this.enPassantSquare) ^ Zobrist.enPassant(enPassantSquare);
+        this.enPassantSquare = enPassantSquare;
+    }
+
+    public void makeMove(int move) {
+        if (ply == undoMoves.length) {
+            growUndoStack();
+        }
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int flag = Move.flag(move);
+        Piece piece = squares[from];
+        undoMoves[ply] = move;
+        undoMovedPieces[ply] = piece;
+        undoPawnInInitialPosition[ply] = piece instanceof Pawn pawn && pawn.isInInitialPosition();
+        undoCastlingRights[ply] = castlingRights;
+        undoEnPassantSquares[ply] = enPassantSquare;
+        undoHashes[ply] = hash;
+        undoHalfmoveClocks[ply] = halfmoveClock;
+        undoAttackInfoValid[ply] = attackInfoValid;
+        if (attackInfoValid != 0) {
+            System.arraycopy(attackInfo, 0, undoAttackInfo, ply * ATTACK_INFO_SIZE, ATTACK_INFO_SIZE);
+        }
+
+        Piece captured = null;
+        if (flag == Move.EN_PASSANT) {
+            captured = remove(enPassantCaptureSquare(piece.color, to));
+        } else if (Move.isCapture(move)) {
+            captured = remove(to);
+        }
+        undoCapturedPieces[ply++] = captured;
+
+        relocate(piece, from, to);
+        if (Move.isPromotion(move)) {
+            remove(to);
+            put(Piece.create(Move.promotionType(move), piece.color, piece.getPosition()), to);
+        } else if (flag == Move.KING_CASTLE) {
+            relocate(squares[to + 1], to + 1, to - 1);
+        } else if (flag == Move.QUEEN_CASTLE) {
+            relocate(squares[to - 2], to - 2, to + 1);
+        }
+        completeMove(from, to, flag == Move.DOUBLE_PAWN_PUSH ? (from + to) / 2 : NO_SQUARE,
+                piece.getType() == PieceType.PAWN || captured != null);
+    }
+
+    public void unmakeMove() {
+        ply--;
+        int move = undoMoves[ply];
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int flag = Move.flag(move);
+        Piece piece = undoMovedPieces[ply];
+        sideToMove = sideToMove.opposite();
+
+        remove(to);
+        if (piece instanceof Pawn pawn) {
+            pawn.setInInitialPosition(undoPawnInInitialPosition[ply]);
+        }
+        piece.setPosition(Position.of(from));
+        put(piece, from);
+        if (flag == Move.KING_CASTLE) {
+            relocate(squares[to - 1], to - 1, to + 1);
+        } else if (flag == Move.QUEEN_CASTLE) {
+            relocate(squares[to + 1], to + 1, to - 2);
+        }
+        Piece captured = undoCapturedPieces[ply];
+        if (captured != null) {
+            put(captured, flag == Move.EN_PASSANT ? enPassantCaptureSquare(piece.color, to) : to);
+            undoCapturedPieces[ply] = null;
+        }
+        undoMovedPieces[ply] = null;
+
+        castlingRights = undoCastlingRights[ply];
+        enPassantSquare = undoEnPassantSquares[ply];
+        hash = undoHashes[ply];
+        halfmoveClock = undoHalfmoveClocks[ply];
+        attackInfoValid = undoAttackInfoValid[ply];
+        if (attackInfoValid != 0) {
+            System.arraycopy(undoAttackInfo, ply * ATTACK_INFO_SIZE, attackInfo, 0, ATTACK_INFO_SIZE);
+        }
+        if (sideToMove == Color.BLACK) {
+            fullmoveNumber--;
+        }
+    }
+
+    public int getPly() {
+        return ply;
+    }
+
+    private static int enPassantCaptureSquare(Color color, int to) {
+        return color == Color.WHITE ? to - SIZE : to + SIZE;
+    }
+
+    private int toMove(Piece piece, int to) {
+        int from = piece.getSquare();
+        boolean capture = squares[to] != null;
+        if (piece.getType() == PieceType.PAWN) {
+            if (to < SIZE || to >= SQUARES - SIZE) {
+                return Move.promotion(from, to, PieceType.QUEEN, capture);
+            }
+            if (Math.abs(to - from) == 2 * SIZE) {
+                return Move.of(from, to, Move.DOUBLE_PAWN_PUSH);
+            }
+            if (!capture && to == enPassantSquare && (to - from) % SIZE != 0) {
+                return Move.of(from, to, Move.EN_PASSANT);
+            }
+        } else if (piece.getType() == PieceType.KING && Math.abs(to - from) == 2) {
+            return Move.of(from, to, to > from ? Move.KING_CASTLE : Move.QUEEN_CASTLE);
+        }
+        return Move.of(from, to, capture ? Move.CAPTURE : Move.QUIET);
+    }
+
+    private boolean keepsKingSafe(int move, Color us) {
+        long king = bitboard(us, PieceType.KING);
+        if (king == 0) {
+            return true;
+        }
+        int kingSquare = Long.numberOfTrailingZeros(king);
+        int from = Move.from(move);
+        int to = Move.to(move);
+        Color them = us.opposite();
+        long checkers = checkers(us);
+        if (from == kingSquare) {
+            if (checkers == 0) {
+                return (attacks(them) & (1L << to)) == 0;
+            }
+            return !Move.isCastle(move) && attackersTo(to, them, occupancy() & ~king) == 0;
+        }
+        if (Move.flag(move) == Move.EN_PASSANT) {
+            long captured = 1L << enPassantCaptureSquare(us, to);
+            long occupied = (occupancy() ^ (1L << from) ^ captured) | (1L << to);
+            return (attackersTo(kingSquare, them, occupied) & ~captured) == 0;
+        }
+        if (checkers != 0) {
+            if ((checkers & (checkers - 1)) != 0) {
+                return false;
+            }
+            long evasions = checkers | Attacks.between(kingSquare, Long.numberOfTrailingZeros(checkers));
+            if ((evasions & (1L << to)) == 0) {
+                return false;
+            }
+        }
+        return (pinned(us) & (1L << from)) == 0 || (Attacks.line(kingSquare, from) & (1L << to)) != 0;
+    }
+
+    private void ensureKingInfo(Color color) {
+        int side = color.ordinal();
+        if ((attackInfoValid & (KING_INFO_VALID << side)) != 0) {
+            return;
+        }
+        long king = bitboard(color, PieceType.KING);
+        long checkers = 0;
+        long pinned = 0;
+        if (king != 0) {
+            int kingSquare = Long.numberOfTrailingZeros(king);
+            Color them = color.opposite();
+            long occupied = occupancy();
+            checkers = attackersTo(kingSquare, them, occupied);
+            long queens = bitboard(them, PieceType.QUEEN);
+            long snipers = (Attacks.rook(kingSquare, 0) & (bitboard(them, PieceType.ROOK) | queens)) |
+                    (Attacks.bishop(kingSquare, 0) & (bitboard(them, PieceType.BISHOP) | queens));
+            while (snipers != 0) {
+                int sniper = Long.numberOfTrailingZeros(snipers);
+                snipers &= snipers - 1;
+                long blockers = Attacks.between(kingSquare, sniper) & occupied;
+                if (blockers != 0 && (blockers & (blockers - 1)) == 0) {
+                    pinned |= blockers & occupancy(color);
+                }
+            }
+        }
+        attackInfo[CHECKERS + side] = checkers;
+        attackInfo[PINNED + side] = pinned;
+        attackInfoValid |= KING_INFO_VALID << side;
+    }
+
+    private long attackersTo(int square, Color attacker, long occupied) {
+        long queens = bitboard(attacker, PieceType.QUEEN);
+        return (Attacks.pawn(attacker.opposite(), square) & bitboard(attacker, PieceType.PAWN)) |
+                (Attacks.knight(square) & bitboard(attacker, PieceType.KNIGHT)) |
+                (Attacks.king(square) & bitboard(attacker, PieceType.KING)) |
+                (Attacks.bishop(square, occupied) & (bitboard(attacker, PieceType.BISHOP) | queens)) |
+                (Attacks.rook(square, occupied) & (bitboard(attacker, PieceType.ROOK) | queens));
+    }
+
+    private long computeAttacks(Color color) {
+        long occupied = occupancy();
+        long pawns = bitboard(color, PieceType.PAWN);
+        long attacks = color == Color.WHITE ?
+                ((pawns & ~Attacks.FILE_A) << 7) | ((pawns & ~Attacks.FILE_H) << 9) :
+                ((pawns & ~Attacks.FILE_A) >>> 9) | ((pawns & ~Attacks.FILE_H) >>> 7);
+        long pieces = occupancy(color) & ~pawns;
+        while (pieces != 0) {
+            int square = Long.numberOfTrailingZeros(pieces);
+            pieces &= pieces - 1;
+            attacks |= switch (squares[square].getType()) {
+                case KNIGHT -> Attacks.knight(square);
+                case BISHOP -> Attacks.bishop(square, occupied);
+                case ROOK -> Attacks.rook(square, occupied);
+                case QUEEN -> Attacks.queen(square, occupied);
+                case KING -> Attacks.king(square);
+                case PAWN -> 0L;
+            };
+        }
+        return attacks;
+    }
+
+    private void growUndoStack() {
+        int capacity = undoMoves.length * 2;
+        undoMoves = Arrays.copyOf(undoMoves, capacity);
+        undoMovedPieces = Arrays.copyOf(undoMovedPieces, capacity);
+        undoCapturedPieces = Arrays.copyOf(undoCapturedPieces, capacity);
+        undoPawnInInitialPosition = Arrays.copyOf(undoPawnInInitialPosition, capacity);
+        undoCastlingRights = Arrays.copyOf(undoCastlingRights, capacity);
+        undoEnPassantSquares = Arrays.copyOf(undoEnPassantSquares, capacity);
+        undoHashes = Arrays.copyOf(undoHashes, capacity);
+        undoHalfmoveClocks = Arrays.copyOf(undoHalfmoveClocks, capacity);
+        undoAttackInfo = Arrays.copyOf(undoAttackInfo, capacity * ATTACK_INFO_SIZE);
+        undoAttackInfoValid = Arrays.copyOf(undoAttackInfoValid, capacity);
+    }
+
+    private void completeMove(int from, int to, int enPassantSquare, boolean resetsHalfmoveClock) {
+        halfmoveClock = resetsHalfmoveClock ? 0 : halfmoveClock + 1;
+        if (sideToMove == Color.BLACK) {
+            fullmoveNumber++;
+        }
+        setCastlingRights(castlingRights & CASTLING_MASKS[from] & CASTLING_MASKS[to]);
+        setEnPassantSquare(enPassantSquare);
+        setSideToMove(sideToMove.opposite());
+    }
+
+    static int castlingMask(int square) {
+        return CASTLING_MASKS[square];
+    }
+
+    void setMoveCounters(int halfmoveClock, int fullmoveNumber) {
+        this.halfmoveClock = halfmoveClock;
+        this.fullmoveNumber = fullmoveNumber;
+    }
+
+    private void relocate(Piece piece, int from, int to) {
+        remove(from);
+        if (piece instanceof Pawn pawn) {
+            pawn.setInInitialPosition(false);
+        }
+        piece.setPosition(Position.of(to));
+        put(piece, to);
+    }
+
+    private void put(Piece piece, int square) {
+        long mask = 1L << square;
+        int index = bitboardIndex(piece.color, piece.getType());
+        squares[square] = piece;
+        attackInfoValid = 0;
+        hash ^= Zobrist.piece(piece, square);
+        pieceSquareScore += PieceSquareTables.pieceScore(index, square);
+        phase += PieceSquareTables.PHASE[piece.getType().ordinal()];
+        if (piece.getType() == PieceType.PAWN) {
+            pawnHash ^= Zobrist.piece(index, square);
+        }
+        bitboards[index] |= mask;
+        occupancy[piece.color.ordinal()] |= mask;
+    }
+
+    private Piece remove(int square) {
+        Piece piece = squares[square];
+        long mask = ~(1L << square);
+        int index = bitboardIndex(piece.color, piece.getType());
+        squares[square] = null;
+        attackInfoValid = 0;
+        hash ^= Zobrist.piece(piece, square);
+        pieceSquareScore -= PieceSquareTables.pieceScore(index, square);
+        phase -= PieceSquareTables.PHASE[piece.getType().ordinal()];
+        if (piece.getType() == PieceType.PAWN) {
+            pawnHash ^= Zobrist.piece(index, square);
+        }
+        bitboards[index] &= mask;
+        occupancy[piece.color.ordinal()] &= mask;
+        return piece;
+    }
+
+    private static int bitboardIndex(Color color, PieceType type) {
+        return color.ordinal() * PieceType.COUNT + type.ordinal();
     }
 
     private void validatePosition(Position targetPosition) {
-        boolean withinLimit = targetPosition.x() >= 1 && targetPosition.x() <= SIZE;
-        withinLimit = withinLimit && targetPosition.y() >= 1 && targetPosition.y() <= SIZE;
-        if (!withinLimit) {
+        if (!targetPosition.isOnBoard()) {
             throw new InvalidPositionException();
         }
     }
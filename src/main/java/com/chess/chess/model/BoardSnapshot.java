@@ -0,0 +1,232 @@
+package com.chess.chess.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// Immutable position for readers that must not see a Board change under them. Squares are a quad-bitboard: bit i of a
+// square's nibble (piece code + 1, 0 when empty) lives in plane i, so playing a move only xors a few bits into four
+// longs. Each snapshot links to the one it was played from, so a game's history is a chain of 64-byte objects and
+// variations share their common prefix.
+public final class BoardSnapshot {
+
+    private static final int PLANES = 4;
+    private static final int CASTLING_SHIFT = 1;
+    private static final int EN_PASSANT_SHIFT = 5;
+    private static final int MOVE_SHIFT = 16;
+    private static final int FULLMOVE_SHIFT = 16;
+    private static final int MASK_16 = 0xFFFF;
+
+    private final long plane0;
+    private final long plane1;
+    private final long plane2;
+    private final long plane3;
+    private final long hash;
+    // Side to move (1 bit), castling rights (4 bits), en passant square + 1 (7 bits), move played to get here (16 bits).
+    private final int state;
+    // Halfmove clock (16 bits), fullmove number (16 bits).
+    private final int counters;
+    private final BoardSnapshot previous;
+
+    private BoardSnapshot(long plane0, long plane1, long plane2, long plane3, long hash, Color sideToMove,
+                          int castlingRights, int enPassantSquare, int move, int halfmoveClock, int fullmoveNumber,
+                          BoardSnapshot previous) {
+        this.plane0 = plane0;
+        this.plane1 = plane1;
+        this.plane2 = plane2;
+        this.plane3 = plane3;
+        this.hash = hash;
+        this.state = sideToMove.ordinal() | castlingRights << CASTLING_SHIFT |
+                (enPassantSquare + 1) << EN_PASSANT_SHIFT | move << MOVE_SHIFT;
+        this.counters = Math.min(halfmoveClock, MASK_16) | Math.min(fullmoveNumber, MASK_16) << FULLMOVE_SHIFT;
+        this.previous = previous;
+    }
+
+    public static BoardSnapshot of(Board board) {
+        long[] planes = new long[PLANES];
+        for (long remaining = board.occupancy(); remaining != 0; remaining &= remaining - 1) {
+            int square = Long.numberOfTrailingZeros(remaining);
+            Piece piece = board.pieceAt(square);
+            int nibble = PositionCodec.pieceCode(piece.getColor(), piece.getType()) + 1;
+            for (int plane = 0; plane < PLANES; plane++) {
+                planes[plane] |= bit(nibble, plane) << square;
+            }
+        }
+        return new BoardSnapshot(planes[0], planes[1], planes[2], planes[3], board.getHash(), board.getSideToMove(),
+                board.getCastlingRights(), board.getEnPassantSquare(), Move.NONE, board.getHalfmoveClock(),
+                board.getFullmoveNumber(), null);
+    }
+
+    // Like Board.makeMove, the move is trusted to be legal in this position.
+    public BoardSnapshot play(int move) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int flag = Move.flag(move);
+        Color us = getSideToMove();
+        int moving = pieceCodeAt(from);
+        int placed = Move.isPromotion(move) ? PositionCodec.pieceCode(us, Move.promotionType(move)) : moving;
+        long hash = this.hash ^ key(moving, from) ^ key(placed, to) ^ Zobrist.castling(getCastlingRights()) ^
+                Zobrist.enPassant(getEnPassantSquare()) ^ Zobrist.sideToMove(us);
+
+        // Squares that change and the nibble each one is xored with; an EMPTY code leaves its square alone.
+        boolean capture = Move.isCapture(move);
+        int captureSquare = to;
+        int captured = PositionCodec.EMPTY;
+        if (capture) {
+            captureSquare = flag == Move.EN_PASSANT ? (us == Color.WHITE ? to - Board.SIZE : to + Board.SIZE) : to;
+            captured = pieceCodeAt(captureSquare);
+            hash ^= key(captured, captureSquare);
+        }
+        int rook = PositionCodec.EMPTY;
+        int rookFrom = from;
+        int rookTo = to;
+        if (flag == Move.KING_CASTLE || flag == Move.QUEEN_CASTLE) {
+            rook = PositionCodec.pieceCode(us, PieceType.ROOK);
+            rookFrom = flag == Move.KING_CASTLE ? to + 1 : to - 2;
+            rookTo = flag == Move.KING_CASTLE ? to - 1 : to + 1;
+            hash ^= key(rook, rookFrom) ^ key(rook, rookTo);
+        }
+
+        Color them = us.opposite();
+        int castlingRights = getCastlingRights() & Board.castlingMask(from) & Board.castlingMask(to);
+        int enPassantSquare = flag == Move.DOUBLE_PAWN_PUSH ? (from + to) / 2 : Board.NO_SQUARE;
+        hash ^= Zobrist.castling(castlingRights) ^ Zobrist.enPassant(enPassantSquare) ^ Zobrist.sideToMove(them);
+        boolean resetsHalfmoveClock = capture || isPawn(moving);
+        return new BoardSnapshot(
+                plane0 ^ changes(0, from, moving, to, placed, captureSquare, captured, rookFrom, rookTo, rook),
+                plane1 ^ changes(1, from, moving, to, placed, captureSquare, captured, rookFrom, rookTo, rook),
+                plane2 ^ changes(2, from, moving, to, placed, captureSquare, captured, rookFrom, rookTo, rook),
+                plane3 ^ changes(3, from, moving, to, placed, captureSquare, captured, rookFrom, rookTo, rook),
+                hash, them, castlingRights, enPassantSquare, move, resetsHalfmoveClock ? 0 : getHalfmoveClock() + 1,
+                us == Color.BLACK ? getFullmoveNumber() + 1 : getFullmoveNumber(), this);
+    }
+
+    public Board toBoard() {
+        long occupied = occupancy();
+        List<Piece> pieces = new ArrayList<>(Long.bitCount(occupied));
+        for (long remaining = occupied; remaining != 0; remaining &= remaining - 1) {
+            int square = Long.numberOfTrailingZeros(remaining);
+            int code = pieceCodeAt(square);
+            pieces.add(Piece.create(PositionCodec.typeOf(code), PositionCodec.colorOf(code), Position.of(square)));
+        }
+        Board board = new Board(pieces);
+        board.setSideToMove(getSideToMove());
+        board.setCastlingRights(getCastlingRights());
+        board.setEnPassantSquare(getEnPassantSquare());
+        board.setMoveCounters(getHalfmoveClock(), getFullmoveNumber());
+        return board;
+    }
+
+    // PositionCodec.EMPTY for an empty square.
+    public int pieceCodeAt(int square) {
+        int nibble = (int) ((plane0 >>> square) & 1 | ((plane1 >>> square) & 1) << 1 |
+                ((plane2 >>> square) & 1) << 2 | ((plane3 >>> square) & 1) << 3);
+        return nibble - 1;
+    }
+
+    public long bitboard(Color color, PieceType type) {
+        int nibble = PositionCodec.pieceCode(color, type) + 1;
+        return select(plane0, nibble & 1) & select(plane1, nibble & 2) &
+                select(plane2, nibble & 4) & select(plane3, nibble & 8);
+    }
+
+    public long occupancy(Color color) {
+        long occupied = 0;
+        for (PieceType type : PieceType.values()) {
+            occupied |= bitboard(color, type);
+        }
+        return occupied;
+    }
+
+    public long occupancy() {
+        return plane0 | plane1 | plane2 | plane3;
+    }
+
+    public boolean isRepetition() {
+        BoardSnapshot earlier = previous;
+        for (int plies = 1; earlier != null && plies <= getHalfmoveClock(); plies++, earlier = earlier.previous) {
+            if (plies % 2 == 0 && earlier.hash == hash) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Optional<BoardSnapshot> getPrevious() {
+        return Optional.ofNullable(previous);
+    }
+
+    // Move.NONE for a snapshot taken directly from a Board.
+    public int getLastMove() {
+        return state >>> MOVE_SHIFT;
+    }
+
+    public Color getSideToMove() {
+        return (state & 1) == 0 ? Color.WHITE : Color.BLACK;
+    }
+
+    public int getCastlingRights() {
+        return (state >>> CASTLING_SHIFT) & 0xF;
+    }
+
+    public int getEnPassantSquare() {
+        return ((state >>> EN_PASSANT_SHIFT) & 0x7F) - 1;
+    }
+
+    public long getHash() {
+        return hash;
+    }
+
+    public int getHalfmoveClock() {
+        return counters & MASK_16;
+    }
+
+    public int getFullmoveNumber() {
+        return counters >>> FULLMOVE_SHIFT;
+    }
+
+    // Same placement, side to move, castling and en passant rights, regardless of move counters or history.
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof BoardSnapshot snapshot && plane0 == snapshot.plane0 && plane1 == snapshot.plane1 &&
+                plane2 == snapshot.plane2 && plane3 == snapshot.plane3 &&
+                (state & MASK_16) == (snapshot.state & MASK_16);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hash);
+    }
+
+    @Override
+    public String toString() {
+        return Fen.toFen(this);
+    }
+
+    private static long changes(int plane, int from, int moving, int to, int placed, int captureSquare,
+                                int captured, int rookFrom, int rookTo, int rook) {
+        long rookBit = bit(rook + 1, plane);
+        return bit(moving + 1, plane) << from ^ bit(placed + 1, plane) << to ^
+                bit(captured + 1, plane) << captureSquare ^ rookBit << rookFrom ^ rookBit << rookTo;
+    }
+
+    private static long bit(int nibble, int plane) {
+        return (nibble >>> plane) & 1L;
+    }
+
+    private static long key(int code, int square) {
+        long key = Zobrist.piece(code, square);
+        if (isPawn(code) && Pawn.isStartSquare(PositionCodec.colorOf(code), square)) {
+            key ^= Zobrist.pawnInInitialPosition(square);
+        }
+        return key;
+    }
+
+    private static boolean isPawn(int code) {
+        return code % PieceType.COUNT == PieceType.PAWN.ordinal();
+    }
+
+    private static long select(long plane, int bit) {
+        return bit != 0 ? plane : ~plane;
+    }
+}
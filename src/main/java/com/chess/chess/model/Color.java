@@ -1,5 +1,9 @@
 package com.chess.chess.model;
 
 public enum Color {
-    WHITE, BLACK
+    WHITE, BLACK;
+
+    public Color opposite() {
+        return this == WHITE ? BLACK : WHITE;
+    }
 }
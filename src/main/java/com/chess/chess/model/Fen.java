@@ -0,0 +1,169 @@
+package com.chess.chess.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+public final class Fen {
+
+    public static final String INITIAL_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    private static final String PIECE_LETTERS = "pnbrqk";
+
+    private Fen() {
+    }
+
+    public static Board parse(String fen) {
+        String[] fields = fen.trim().split("\\s+");
+        if (fields.length < 4) {
+            throw new IllegalArgumentException("Invalid FEN: " + fen);
+        }
+        Board board = new Board(parsePlacement(fields[0], fen));
+        board.setSideToMove(parseSideToMove(fields[1], fen));
+        board.setCastlingRights(parseCastlingRights(fields[2], fen));
+        board.setEnPassantSquare(parseSquare(fields[3], fen));
+        if (fields.length >= 6) {
+            board.setMoveCounters(parseCounter(fields[4], fen), parseCounter(fields[5], fen));
+        }
+        return board;
+    }
+
+    public static String toFen(Board board) {
+        return toFen(square -> {
+            Piece piece = board.pieceAt(square);
+            return piece == null ? PositionCodec.EMPTY : PositionCodec.pieceCode(piece.getColor(), piece.getType());
+        }, board.getSideToMove(), board.getCastlingRights(), board.getEnPassantSquare(), board.getHalfmoveClock(),
+                board.getFullmoveNumber());
+    }
+
+    public static String toFen(BoardSnapshot snapshot) {
+        return toFen(snapshot::pieceCodeAt, snapshot.getSideToMove(), snapshot.getCastlingRights(),
+                snapshot.getEnPassantSquare(), snapshot.getHalfmoveClock(), snapshot.getFullmoveNumber());
+    }
+
+    private static String toFen(IntUnaryOperator pieceCodes, Color sideToMove, int castlingRights,
+                                int enPassantSquare, int halfmoveClock, int fullmoveNumber) {
+        StringBuilder fen = new StringBuilder(90);
+        for (int y = Board.SIZE; y >= 1; y--) {
+            int emptySquares = 0;
+            for (int x = 1; x <= Board.SIZE; x++) {
+                int code = pieceCodes.applyAsInt((y - 1) * Board.SIZE + (x - 1));
+                if (code == PositionCodec.EMPTY) {
+                    emptySquares++;
+                    continue;
+                }
+                if (emptySquares > 0) {
+                    fen.append(emptySquares);
+                    emptySquares = 0;
+                }
+                char letter = PIECE_LETTERS.charAt(PositionCodec.typeOf(code).ordinal());
+                fen.append(PositionCodec.colorOf(code) == Color.WHITE ? Character.toUpperCase(letter) : letter);
+            }
+            if (emptySquares > 0) {
+                fen.append(emptySquares);
+            }
+            if (y > 1) {
+                fen.append('/');
+            }
+        }
+        fen.append(sideToMove == Color.WHITE ? " w " : " b ");
+        appendCastlingRights(fen, castlingRights);
+        fen.append(' ');
+        fen.append(enPassantSquare == Board.NO_SQUARE ? "-" : Move.squareName(enPassantSquare));
+        fen.append(' ').append(halfmoveClock);
+        fen.append(' ').append(fullmoveNumber);
+        return fen.toString();
+    }
+
+    private static void appendCastlingRights(StringBuilder fen, int rights) {
+        if (rights == 0) {
+            fen.append('-');
+            return;
+        }
+        if ((rights & Board.WHITE_KINGSIDE) != 0) {
+            fen.append('K');
+        }
+        if ((rights & Board.WHITE_QUEENSIDE) != 0) {
+            fen.append('Q');
+        }
+        if ((rights & Board.BLACK_KINGSIDE) != 0) {
+            fen.append('k');
+        }
+        if ((rights & Board.BLACK_QUEENSIDE) != 0) {
+            fen.append('q');
+        }
+    }
+
+    private static int parseCounter(String field, String fen) {
+        try {
+            return Integer.parseInt(field);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid FEN: " + fen, e);
+        }
+    }
+
+    private static List<Piece> parsePlacement(String placement, String fen) {
+        List<Piece> pieces = new ArrayList<>();
+        String[] ranks = placement.split("/");
+        if (ranks.length != Board.SIZE) {
+            throw new IllegalArgumentException("Invalid FEN: " + fen);
+        }
+        for (int i = 0; i < Board.SIZE; i++) {
+            int y = Board.SIZE - i;
+            int x = 1;
+            for (char c : ranks[i].toCharArray()) {
+                if (Character.isDigit(c)) {
+                    x += c - '0';
+                    continue;
+                }
+                int typeIndex = PIECE_LETTERS.indexOf(Character.toLowerCase(c));
+                if (typeIndex < 0 || x > Board.SIZE) {
+                    throw new IllegalArgumentException("Invalid FEN: " + fen);
+                }
+                Color color = Character.isUpperCase(c) ? Color.WHITE : Color.BLACK;
+                pieces.add(Piece.create(PieceType.values()[typeIndex], color, Position.of(x, y)));
+                x++;
+            }
+            if (x != Board.SIZE + 1) {
+                throw new IllegalArgumentException("Invalid FEN: " + fen);
+            }
+        }
+        return pieces;
+    }
+
+    private static Color parseSideToMove(String field, String fen) {
+        return switch (field) {
+            case "w" -> Color.WHITE;
+            case "b" -> Color.BLACK;
+            default -> throw new IllegalArgumentException("Invalid FEN: " + fen);
+        };
+    }
+
+    private static int parseCastlingRights(String field, String fen) {
+        int rights = 0;
+        if (field.equals("-")) {
+            return rights;
+        }
+        for (char c : field.toCharArray()) {
+            rights |= switch (c) {
+                case 'K' -> Board.WHITE_KINGSIDE;
+                case 'Q' -> Board.WHITE_QUEENSIDE;
+                case 'k' -> Board.BLACK_KINGSIDE;
+                case 'q' -> Board.BLACK_QUEENSIDE;
+                default -> throw new IllegalArgumentException("Invalid FEN: " + fen);
+            };
+        }
+        return rights;
+    }
+
+    private static int parseSquare(String field, String fen) {
+        if (field.equals("-")) {
+            return Board.NO_SQUARE;
+        }
+        if (field.length() != 2 || field.charAt(0) < 'a' || field.charAt(0) > 'h' ||
+                field.charAt(1) < '1' || field.charAt(1) > '8') {
+            throw new IllegalArgumentException("Invalid FEN: " + fen);
+        }
+        return (field.charAt(1) - '1') * Board.SIZE + (field.charAt(0) - 'a');
+    }
+}
@@ -0,0 +1,174 @@
+package com.chess.chess.model;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public final class GameReplay {
+
+    private static final int GAMES_PER_TASK = 32;
+
+    private GameReplay() {
+    }
+
+    public static ReplayResult replay(Board start, int[] moves, int[] gameOffsets, ForkJoinPool pool) {
+        int games = gameOffsets.length - 1;
+        ReplayResult result = new ReplayResult(new int[games], new int[games]);
+        pool.invoke(new ReplayTask(start, moves, gameOffsets, 0, games, result));
+        return result;
+    }
+
+    public static ReplayResult replay(Board start, int[] moves, int[] gameOffsets) {
+        return replay(start, moves, gameOffsets, ForkJoinPool.commonPool());
+    }
+
+    // Each game is an unsigned 16-bit move count followed by that many 16-bit packed moves.
+    public static ReplayResult replay(Board start, ByteBuffer games, ForkJoinPool pool) {
+        return replay(start, new ByteBuffer[]{games}, pool);
+    }
+
+    // A ByteBuffer holds at most 2 GB, so larger archives are passed as chunks, for example consecutive mappings of
+    // one file, each holding whole games. One pass records where each game starts as its chunk index in the high
+    // half and its offset in the low half; the leaves decode their games straight from the chunks.
+    public static ReplayResult replay(Board start, ByteBuffer[] chunks, ForkJoinPool pool) {
+        long[] gameStarts = new long[64];
+        int gameCount = 0;
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            ByteBuffer buffer = chunks[chunk].duplicate().order(chunks[chunk].order());
+            while (buffer.hasRemaining()) {
+                if (gameCount == gameStarts.length) {
+                    gameStarts = Arrays.copyOf(gameStarts, gameCount * 2);
+                }
+                gameStarts[gameCount++] = (long) chunk << 32 | buffer.position();
+                int length = buffer.getShort() & 0xFFFF;
+                buffer.position(buffer.position() + length * Short.BYTES);
+            }
+        }
+        ReplayResult result = new ReplayResult(new int[gameCount], new int[gameCount]);
+        pool.invoke(new BufferReplayTask(start, chunks, gameStarts, 0, gameCount, result));
+        return result;
+    }
+
+    public static ReplayResult replay(Board board, int[] moves) {
+        ReplayResult result = new ReplayResult(new int[1], new int[1]);
+        replay(board, moves, 0, moves.length, result, 0);
+        return result;
+    }
+
+    private static void replay(Board board, int[] moves, int from, int to, ReplayResult result, int game) {
+        int played = 0;
+        int status = MoveStatus.LEGAL;
+        for (int i = from; i < to; i++) {
+            status = board.checkMove(moves[i]);
+            if (status != MoveStatus.LEGAL) {
+                break;
+            }
+            board.makeMove(moves[i]);
+            played++;
+        }
+        for (int i = 0; i < played; i++) {
+            board.unmakeMove();
+        }
+        record(result, game, status, played);
+    }
+
+    private static void replay(Board board, ByteBuffer buffer, ReplayResult result, int game) {
+        int length = buffer.getShort() & 0xFFFF;
+        int played = 0;
+        int status = MoveStatus.LEGAL;
+        for (int i = 0; i < length; i++) {
+            int move = buffer.getShort() & 0xFFFF;
+            status = board.checkMove(move);
+            if (status != MoveStatus.LEGAL) {
+                break;
+            }
+            board.makeMove(move);
+            played++;
+        }
+        for (int i = 0; i < played; i++) {
+            board.unmakeMove();
+        }
+        record(result, game, status, played);
+    }
+
+    private static void record(ReplayResult result, int game, int status, int played) {
+        result.statuses()[game] = status;
+        result.firstIllegalMoves()[game] = status == MoveStatus.LEGAL ? ReplayResult.NO_ILLEGAL_MOVE : played;
+    }
+
+    private static final class ReplayTask extends RecursiveAction {
+
+        private final Board start;
+        private final int[] moves;
+        private final int[] gameOffsets;
+        private final int firstGame;
+        private final int lastGame;
+        private final ReplayResult result;
+
+        ReplayTask(Board start, int[] moves, int[] gameOffsets, int firstGame, int lastGame, ReplayResult result) {
+            this.start = start;
+            this.moves = moves;
+            this.gameOffsets = gameOffsets;
+            this.firstGame = firstGame;
+            this.lastGame = lastGame;
+            this.result = result;
+        }
+
+        @Override
+        protected void compute() {
+            if (lastGame - firstGame <= GAMES_PER_TASK) {
+                Board board = new Board(start);
+                for (int game = firstGame; game < lastGame; game++) {
+                    replay(board, moves, gameOffsets[game], gameOffsets[game + 1], result, game);
+                }
+                return;
+            }
+            int middle = (firstGame + lastGame) >>> 1;
+            invokeAll(new ReplayTask(start, moves, gameOffsets, firstGame, middle, result),
+                    new ReplayTask(start, moves, gameOffsets, middle, lastGame, result));
+        }
+    }
+
+    private static final class BufferReplayTask extends RecursiveAction {
+
+        private final Board start;
+        private final ByteBuffer[] chunks;
+        private final long[] gameStarts;
+        private final int firstGame;
+        private final int lastGame;
+        private final ReplayResult result;
+
+        BufferReplayTask(Board start, ByteBuffer[] chunks, long[] gameStarts, int firstGame, int lastGame,
+                ReplayResult result) {
+            this.start = start;
+            this.chunks = chunks;
+            this.gameStarts = gameStarts;
+            this.firstGame = firstGame;
+            this.lastGame = lastGame;
+            this.result = result;
+        }
+
+        @Override
+        protected void compute() {
+            if (lastGame - firstGame <= GAMES_PER_TASK) {
+                Board board = new Board(start);
+                ByteBuffer buffer = null;
+                int bufferChunk = -1;
+                for (int game = firstGame; game < lastGame; game++) {
+                    int chunk = (int) (gameStarts[game] >>> 32);
+                    if (chunk != bufferChunk) {
+                        buffer = chunks[chunk].duplicate().order(chunks[chunk].order());
+                        bufferChunk = chunk;
+                    }
+                    buffer.position((int) gameStarts[game]);
+                    replay(board, buffer, result, game);
+                }
+                return;
+            }
+            int middle = (firstGame + lastGame) >>> 1;
+            invokeAll(new BufferReplayTask(start, chunks, gameStarts, firstGame, middle, result),
+                    new BufferReplayTask(start, chunks, gameStarts, middle, lastGame, result));
+        }
+    }
+}
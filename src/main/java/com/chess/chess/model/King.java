@@ -0,0 +1,22 @@
+package com.chess.chess.model;
+
+public class King extends Piece {
+
+    public King(Color color, Position position) {
+        super(color, position);
+    }
+
+    @Override
+    public PieceType getType() {
+        return PieceType.KING;
+    }
+
+    @Override
+    protected int checkMove(int targetSquare, Board board) {
+        int status = checkReachable(Attacks.king(getSquare()), targetSquare, board);
+        if (status == MoveStatus.UNREACHABLE && MoveGenerator.canCastle(board, color, getSquare(), targetSquare)) {
+            return MoveStatus.LEGAL;
+        }
+        return status;
+    }
+}
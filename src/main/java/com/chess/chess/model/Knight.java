@@ -0,0 +1,18 @@
+package com.chess.chess.model;
+
+public class Knight extends Piece {
+
+    public Knight(Color color, Position position) {
+        super(color, position);
+    }
+
+    @Override
+    public PieceType getType() {
+        return PieceType.KNIGHT;
+    }
+
+    @Override
+    protected int checkMove(int targetSquare, Board board) {
+        return checkReachable(Attacks.knight(getSquare()), targetSquare, board);
+    }
+}
@@ -0,0 +1,108 @@
+package com.chess.chess.model;
+
+public final class Move {
+
+    public static final int NONE = 0;
+
+    public static final int QUIET = 0;
+    public static final int DOUBLE_PAWN_PUSH = 1;
+    public static final int KING_CASTLE = 2;
+    public static final int QUEEN_CASTLE = 3;
+    public static final int CAPTURE = 4;
+    public static final int EN_PASSANT = 5;
+    public static final int PROMOTION = 8;
+    public static final int PROMOTION_CAPTURE = 12;
+
+    private static final int SQUARE_MASK = 0x3F;
+    private static final int TO_SHIFT = 6;
+    private static final int FLAG_SHIFT = 12;
+    private static final PieceType[] PROMOTION_TYPES = {
+            PieceType.KNIGHT, PieceType.BISHOP, PieceType.ROOK, PieceType.QUEEN
+    };
+    private static final String PROMOTION_LETTERS = "nbrq";
+
+    private Move() {
+    }
+
+    public static int of(int from, int to, int flag) {
+        return from | (to << TO_SHIFT) | (flag << FLAG_SHIFT);
+    }
+
+    public static int promotion(int from, int to, PieceType type, boolean capture) {
+        int flag = (capture ? PROMOTION_CAPTURE : PROMOTION) | (type.ordinal() - PieceType.KNIGHT.ordinal());
+        return of(from, to, flag);
+    }
+
+    public static int from(int move) {
+        return move & SQUARE_MASK;
+    }
+
+    public static int to(int move) {
+        return (move >>> TO_SHIFT) & SQUARE_MASK;
+    }
+
+    public static int flag(int move) {
+        return move >>> FLAG_SHIFT;
+    }
+
+    public static boolean isCapture(int move) {
+        return (flag(move) & CAPTURE) != 0;
+    }
+
+    public static boolean isPromotion(int move) {
+        return (flag(move) & PROMOTION) != 0;
+    }
+
+    public static boolean isCastle(int move) {
+        int flag = flag(move);
+        return flag == KING_CASTLE || flag == QUEEN_CASTLE;
+    }
+
+    public static PieceType promotionType(int move) {
+        return PROMOTION_TYPES[flag(move) & 3];
+    }
+
+    public static String toUci(int move) {
+        String uci = squareName(from(move)) + squareName(to(move));
+        if (isPromotion(move)) {
+            uci += PROMOTION_LETTERS.charAt(flag(move) & 3);
+        }
+        return uci;
+    }
+
+    // Parses long algebraic notation ("e2e4", "e7e8q") into a move carrying only its squares and promotion type, to
+    // be compared with generated moves through matchesUci. Returns NONE for a missing or malformed move.
+    public static int parseUci(String uci) {
+        if (uci == null || (uci.length() != 4 && uci.length() != 5)) {
+            return NONE;
+        }
+        int from = square(uci.charAt(0), uci.charAt(1));
+        int to = square(uci.charAt(2), uci.charAt(3));
+        if (from == Board.NO_SQUARE || to == Board.NO_SQUARE) {
+            return NONE;
+        }
+        if (uci.length() == 4) {
+            return of(from, to, QUIET);
+        }
+        int letter = PROMOTION_LETTERS.indexOf(uci.charAt(4));
+        return letter < 0 ? NONE : promotion(from, to, PROMOTION_TYPES[letter], false);
+    }
+
+    public static boolean matchesUci(int move, int uci) {
+        if (from(move) != from(uci) || to(move) != to(uci) || isPromotion(move) != isPromotion(uci)) {
+            return false;
+        }
+        return !isPromotion(move) || promotionType(move) == promotionType(uci);
+    }
+
+    public static int square(char file, char rank) {
+        if (file < 'a' || file > 'h' || rank < '1' || rank > '8') {
+            return Board.NO_SQUARE;
+        }
+        return (rank - '1') * Board.SIZE + (file - 'a');
+    }
+
+    public static String squareName(int square) {
+        return "" + (char) ('a' + square % Board.SIZE) + (char) ('1' + square / Board.SIZE);
+    }
+}
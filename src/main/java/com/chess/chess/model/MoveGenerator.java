@@ -0,0 +1,198 @@
+package com.chess.chess.model;
+
+import com.chess.chess.metrics.Instrumentation;
+import com.chess.chess.metrics.Operation;
+
+public final class MoveGenerator {
+
+    public static final int MAX_MOVES = 256;
+
+    private static final int WHITE_KING_SQUARE = 4;
+    private static final int BLACK_KING_SQUARE = 60;
+    private static final long WHITE_KINGSIDE_PATH = 0x60L;
+    private static final long WHITE_QUEENSIDE_PATH = 0x0EL;
+    private static final long BLACK_KINGSIDE_PATH = WHITE_KINGSIDE_PATH << 56;
+    private static final long BLACK_QUEENSIDE_PATH = WHITE_QUEENSIDE_PATH << 56;
+
+    private MoveGenerator() {
+    }
+
+    public static int generateLegal(Board board, int[] moves) {
+        long start = Instrumentation.ENABLED ? System.nanoTime() : 0;
+        int count = generate(board, moves);
+        int legal = 0;
+        for (int i = 0; i < count; i++) {
+            if (board.isLegalMove(moves[i])) {
+                moves[legal++] = moves[i];
+            }
+        }
+        if (Instrumentation.ENABLED) {
+            Instrumentation.record(Operation.MOVE_GENERATION, start);
+        }
+        return legal;
+    }
+
+    public static int generate(Board board, int[] moves) {
+        Color us = board.getSideToMove();
+        long own = board.occupancy(us);
+        long enemy = board.occupancy(us.opposite());
+        long occupied = own | enemy;
+        long targets = ~own;
+
+        int count = generatePawnMoves(board, us, enemy, occupied, moves, 0);
+
+        long knights = board.bitboard(us, PieceType.KNIGHT);
+        while (knights != 0) {
+            int from = Long.numberOfTrailingZeros(knights);
+            knights &= knights - 1;
+            count = addMoves(from, Attacks.knight(from) & targets, enemy, moves, count);
+        }
+        long bishops = board.bitboard(us, PieceType.BISHOP);
+        while (bishops != 0) {
+            int from = Long.numberOfTrailingZeros(bishops);
+            bishops &= bishops - 1;
+            count = addMoves(from, Attacks.bishop(from, occupied) & targets, enemy, moves, count);
+        }
+        long rooks = board.bitboard(us, PieceType.ROOK);
+        while (rooks != 0) {
+            int from = Long.numberOfTrailingZeros(rooks);
+            rooks &= rooks - 1;
+            count = addMoves(from, Attacks.rook(from, occupied) & targets, enemy, moves, count);
+        }
+        long queens = board.bitboard(us, PieceType.QUEEN);
+        while (queens != 0) {
+            int from = Long.numberOfTrailingZeros(queens);
+            queens &= queens - 1;
+            count = addMoves(from, Attacks.queen(from, occupied) & targets, enemy, moves, count);
+        }
+        long kings = board.bitboard(us, PieceType.KING);
+        while (kings != 0) {
+            int from = Long.numberOfTrailingZeros(kings);
+            kings &= kings - 1;
+            count = addMoves(from, Attacks.king(from) & targets, enemy, moves, count);
+        }
+        return generateCastling(board, us, occupied, moves, count);
+    }
+
+    private static int generatePawnMoves(Board board, Color us, long enemy, long occupied, int[] moves, int count) {
+        long pawns = board.bitboard(us, PieceType.PAWN);
+        long empty = ~occupied;
+        int forward;
+        long singlePushes;
+        long doublePushes;
+        long leftCaptures;
+        long rightCaptures;
+        long lastRank;
+        if (us == Color.WHITE) {
+            forward = 8;
+            singlePushes = (pawns << 8) & empty;
+            doublePushes = ((singlePushes & Attacks.RANK_3) << 8) & empty;
+            leftCaptures = ((pawns & ~Attacks.FILE_A) << 7) & enemy;
+            rightCaptures = ((pawns & ~Attacks.FILE_H) << 9) & enemy;
+            lastRank = Attacks.RANK_8;
+        } else {
+            forward = -8;
+            singlePushes = (pawns >>> 8) & empty;
+            doublePushes = ((singlePushes & Attacks.RANK_6) >>> 8) & empty;
+            leftCaptures = ((pawns & ~Attacks.FILE_A) >>> 9) & enemy;
+            rightCaptures = ((pawns & ~Attacks.FILE_H) >>> 7) & enemy;
+            lastRank = Attacks.RANK_1;
+        }
+
+        count = addPawnMoves(singlePushes, forward, lastRank, false, moves, count);
+        while (doublePushes != 0) {
+            int to = Long.numberOfTrailingZeros(doublePushes);
+            doublePushes &= doublePushes - 1;
+            moves[count++] = Move.of(to - 2 * forward, to, Move.DOUBLE_PAWN_PUSH);
+        }
+        count = addPawnMoves(leftCaptures, forward - 1, lastRank, true, moves, count);
+        count = addPawnMoves(rightCaptures, forward + 1, lastRank, true, moves, count);
+
+        int enPassantSquare = board.getEnPassantSquare();
+        if (enPassantSquare != Board.NO_SQUARE) {
+            long attackers = Attacks.pawn(us.opposite(), enPassantSquare) & pawns;
+            while (attackers != 0) {
+                int from = Long.numberOfTrailingZeros(attackers);
+                attackers &= attackers - 1;
+                moves[count++] = Move.of(from, enPassantSquare, Move.EN_PASSANT);
+            }
+        }
+        return count;
+    }
+
+    private static int addPawnMoves(long targets, int offset, long lastRank, boolean capture, int[] moves, int count) {
+        long promotions = targets & lastRank;
+        long others = targets & ~lastRank;
+        int flag = capture ? Move.CAPTURE : Move.QUIET;
+        while (others != 0) {
+            int to = Long.numberOfTrailingZeros(others);
+            others &= others - 1;
+            moves[count++] = Move.of(to - offset, to, flag);
+        }
+        while (promotions != 0) {
+            int to = Long.numberOfTrailingZeros(promotions);
+            promotions &= promotions - 1;
+            int from = to - offset;
+            moves[count++] = Move.promotion(from, to, PieceType.QUEEN, capture);
+            moves[count++] = Move.promotion(from, to, PieceType.KNIGHT, capture);
+            moves[count++] = Move.promotion(from, to, PieceType.ROOK, capture);
+            moves[count++] = Move.promotion(from, to, PieceType.BISHOP, capture);
+        }
+        return count;
+    }
+
+    private static int addMoves(int from, long targets, long enemy, int[] moves, int count) {
+        long captures = targets & enemy;
+        long quiets = targets & ~enemy;
+        while (captures != 0) {
+            int to = Long.numberOfTrailingZeros(captures);
+            captures &= captures - 1;
+            moves[count++] = Move.of(from, to, Move.CAPTURE);
+        }
+        while (quiets != 0) {
+            int to = Long.numberOfTrailingZeros(quiets);
+            quiets &= quiets - 1;
+            moves[count++] = Move.of(from, to, Move.QUIET);
+        }
+        return count;
+    }
+
+    private static int generateCastling(Board board, Color us, long occupied, int[] moves, int count) {
+        int kingSquare = us == Color.WHITE ? WHITE_KING_SQUARE : BLACK_KING_SQUARE;
+        int rights = board.getCastlingRights() & (us == Color.WHITE ?
+                Board.WHITE_KINGSIDE | Board.WHITE_QUEENSIDE : Board.BLACK_KINGSIDE | Board.BLACK_QUEENSIDE);
+        if (rights == 0 || board.isInCheck()) {
+            return count;
+        }
+        if (canCastle(board, us, occupied, kingSquare, true)) {
+            moves[count++] = Move.of(kingSquare, kingSquare + 2, Move.KING_CASTLE);
+        }
+        if (canCastle(board, us, occupied, kingSquare, false)) {
+            moves[count++] = Move.of(kingSquare, kingSquare - 2, Move.QUEEN_CASTLE);
+        }
+        return count;
+    }
+
+    static boolean canCastle(Board board, Color us, int from, int to) {
+        int kingSquare = us == Color.WHITE ? WHITE_KING_SQUARE : BLACK_KING_SQUARE;
+        if (from != kingSquare || Math.abs(to - from) != 2 || board.isKingAttacked(us)) {
+            return false;
+        }
+        return canCastle(board, us, board.occupancy(), kingSquare, to > from);
+    }
+
+    private static boolean canCastle(Board board, Color us, long occupied, int kingSquare, boolean kingside) {
+        int right;
+        long path;
+        if (us == Color.WHITE) {
+            right = kingside ? Board.WHITE_KINGSIDE : Board.WHITE_QUEENSIDE;
+            path = kingside ? WHITE_KINGSIDE_PATH : WHITE_QUEENSIDE_PATH;
+        } else {
+            right = kingside ? Board.BLACK_KINGSIDE : Board.BLACK_QUEENSIDE;
+            path = kingside ? BLACK_KINGSIDE_PATH : BLACK_QUEENSIDE_PATH;
+        }
+        int passedSquare = kingside ? kingSquare + 1 : kingSquare - 1;
+        return (board.getCastlingRights() & right) != 0 && (occupied & path) == 0 &&
+                (board.attacks(us.opposite()) & (1L << passedSquare)) == 0;
+    }
+}
@@ -0,0 +1,37 @@
+package com.chess.chess.model;
+
+public final class MoveStatus {
+
+    public static final int LEGAL = 0;
+    public static final int OUT_OF_BOARD = 1;
+    public static final int PIECE_NOT_ON_BOARD = 2;
+    public static final int UNREACHABLE = 3;
+    public static final int OCCUPIED_BY_OWN_PIECE = 4;
+    public static final int BLOCKED = 5;
+    public static final int NOTHING_TO_CAPTURE = 6;
+    public static final int PAWN_ALREADY_MOVED = 7;
+    public static final int LEAVES_KING_IN_CHECK = 8;
+    public static final int NOT_SIDE_TO_MOVE = 9;
+    public static final int INCONSISTENT_FLAG = 10;
+
+    private static final String[] NAMES = {
+            "LEGAL", "OUT_OF_BOARD", "PIECE_NOT_ON_BOARD", "UNREACHABLE", "OCCUPIED_BY_OWN_PIECE", "BLOCKED",
+            "NOTHING_TO_CAPTURE", "PAWN_ALREADY_MOVED", "LEAVES_KING_IN_CHECK", "NOT_SIDE_TO_MOVE", "INCONSISTENT_FLAG"
+    };
+
+    private MoveStatus() {
+    }
+
+    public static void throwIfInvalid(int status) {
+        if (status == OUT_OF_BOARD) {
+            throw new InvalidPositionException();
+        }
+        if (status != LEGAL) {
+            throw new InvalidMoveException();
+        }
+    }
+
+    public static String name(int status) {
+        return NAMES[status];
+    }
+}
@@ -1,134 +1,100 @@
 package com.chess.chess.model;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
-
 public class Pawn extends Piece {
 
+    private static final int[][] ONE_SQUARE_AHEAD = new int[2][Board.SQUARES];
+    private static final int[][] TWO_SQUARES_AHEAD = new int[2][Board.SQUARES];
+    private static final int[][] DIAGONAL_TO_THE_LEFT = new int[2][Board.SQUARES];
+    private static final int[][] DIAGONAL_TO_THE_RIGHT = new int[2][Board.SQUARES];
+
+    static {
+        for (Color color : Color.values()) {
+            int side = color.ordinal();
+            int direction = (color == Color.BLACK) ? -1 : 1;
+            for (int square = 0; square < Board.SQUARES; square++) {
+                int x = square % Board.SIZE;
+                int y = square / Board.SIZE;
+                ONE_SQUARE_AHEAD[side][square] = squareAt(x, y + direction);
+                TWO_SQUARES_AHEAD[side][square] = squareAt(x, y + 2 * direction);
+                DIAGONAL_TO_THE_LEFT[side][square] = squareAt(x - 1, y + direction);
+                DIAGONAL_TO_THE_RIGHT[side][square] = squareAt(x + 1, y + direction);
+            }
+        }
+    }
+
     private boolean isInInitialPosition;
 
     public Pawn(Color color, Position position) {
         super(color, position);
-        if (position.y() == 2 || position.y() == 7) {
-            isInInitialPosition = true;
-        }
+        isInInitialPosition = position.isOnBoard() && isStartSquare(color, position.square());
     }
 
-    @Override
-    public void moveTo(Position targetPosition, Board board) {
-        List<Position> possibleMoves = possibleMoves(board);
-        if (!possibleMoves.contains(targetPosition)) {
-            throw new InvalidMoveException();
-        }
-        Optional<Piece> pieceAtTargetPosition = board.pieceAtPosition(targetPosition);
-        boolean isThereAPieceAtTargetPosition = pieceAtTargetPosition.isPresent();
-        if (isThereAPieceAtTargetPosition && (isTargetPositionInFrontOfMe(targetPosition) ||
-                isTargetPositionTwoPositionsInFrontOfMe(targetPosition))) {
-            throw new InvalidMoveException();
-        }
-        if (isThereAPieceAtTargetPosition && isTargetPositionInDiagonalToMe(targetPosition)) {
-            board.removePieceAtPosition(targetPosition);
-        }
-        if (!isThereAPieceAtTargetPosition && isTargetPositionInDiagonalToMe(targetPosition)) {
-            throw new InvalidMoveException();
-        }
-        setPosition(targetPosition);
-        isInInitialPosition = false;
+    // A pawn that has not moved yet can only stand on its own second rank.
+    public static boolean isStartSquare(Color color, int square) {
+        int rank = square / Board.SIZE;
+        return color == Color.WHITE ? rank == 1 : rank == 6;
     }
 
-    private List<Position> possibleMoves(Board board) {
-        if ((position.y() >= Board.SIZE)) {
-            return Collections.emptyList();
-        }
-        List<Position> possibleMoves = new ArrayList<>();
-
-        Position onePositionAhead = onePositionAhead();
-        Optional<Piece> pieceOnePositionAhead = board.pieceAtPosition(onePositionAhead);
-        if (notInTheLastRow() && pieceOnePositionAhead.isEmpty()) {
-            possibleMoves.add(onePositionAhead);
-        }
-
-        Position twoPositionAhead = twoPositionAhead();
-        Optional<Piece> pieceTwoPositionAhead = board.pieceAtPosition(twoPositionAhead);
-        if (isInInitialPosition && pieceOnePositionAhead.isEmpty() && pieceTwoPositionAhead.isEmpty()) {
-            possibleMoves.add(twoPositionAhead);
-        }
-        possibleMoves.addAll(diagonalMovesIfApply(board));
-        return possibleMoves;
+    @Override
+    public PieceType getType() {
+        return PieceType.PAWN;
     }
 
-    private List<Position> diagonalMovesIfApply(Board board) {
-        List<Position> positions = new ArrayList<>();
-        if (position.x() == 1) {
-            if (board.pieceAtPosition(diagonalToTheRight()).isPresent()) {
-                positions.add(diagonalToTheRight());
-            }
+    @Override
+    protected int checkMove(int targetSquare, Board board) {
+        int side = color.ordinal();
+        int square = getSquare();
+        int oneSquareAhead = ONE_SQUARE_AHEAD[side][square];
+        boolean isOneSquareAheadEmpty = oneSquareAhead != Board.NO_SQUARE && board.pieceAt(oneSquareAhead) == null;
+
+        if (targetSquare == oneSquareAhead) {
+            return isOneSquareAheadEmpty ? MoveStatus.LEGAL : MoveStatus.BLOCKED;
         }
-
-        if (position.x() == 8) {
-            if (board.pieceAtPosition(diagonalToTheLeft()).isPresent()) {
-                positions.add(diagonalToTheLeft());
+        if (targetSquare == TWO_SQUARES_AHEAD[side][square]) {
+            if (!isInInitialPosition) {
+                return MoveStatus.PAWN_ALREADY_MOVED;
             }
+            return isOneSquareAheadEmpty && board.pieceAt(targetSquare) == null ?
+                    MoveStatus.LEGAL : MoveStatus.BLOCKED;
         }
-
-        if (position.x() != 1 && position.x() != 8) {
-            if (board.pieceAtPosition(diagonalToTheLeft()).isPresent()) {
-                positions.add(diagonalToTheLeft());
-            }
-            if (board.pieceAtPosition(diagonalToTheRight()).isPresent()) {
-                positions.add(diagonalToTheRight());
+        if (targetSquare == DIAGONAL_TO_THE_LEFT[side][square] ||
+                targetSquare == DIAGONAL_TO_THE_RIGHT[side][square]) {
+            Piece pieceToCapture = board.pieceAt(targetSquare);
+            if (pieceToCapture == null) {
+                return isEnPassantCapture(targetSquare, board) ? MoveStatus.LEGAL : MoveStatus.NOTHING_TO_CAPTURE;
             }
+            return pieceToCapture.color == color ? MoveStatus.OCCUPIED_BY_OWN_PIECE : MoveStatus.LEGAL;
         }
-
-        return positions;
-    }
-
-
-    private boolean isTargetPositionInDiagonalToMe(Position targetPosition) {
-        int yPosition = (color == Color.BLACK) ? -1 : 1;
-        Position rightDiagonalPositionFromMe = new Position(position.x() + 1, position.y() + yPosition);
-        Position leftDiagonalPositionFromMe = new Position(position.x() - 1, position.y() + yPosition);
-        return targetPosition.equals(rightDiagonalPositionFromMe) ||
-                targetPosition.equals(leftDiagonalPositionFromMe);
-    }
-
-    private boolean isTargetPositionInFrontOfMe(Position targetPosition) {
-        int yPosition = (color == Color.BLACK) ? -1 : 1;
-        return position.y() + yPosition == targetPosition.y() &&
-                position.x() == targetPosition.x();
-    }
-
-    private boolean isTargetPositionTwoPositionsInFrontOfMe(Position targetPosition) {
-        int yPosition = (color == Color.BLACK) ? -2 : 2;
-        return position.y() + yPosition == targetPosition.y() &&
-                position.x() == targetPosition.x();
+        return MoveStatus.UNREACHABLE;
     }
 
-    private Position diagonalToTheLeft() {
-        int yPosition = (color == Color.BLACK) ? -1 : 1;
-        return new Position(position.x() - 1, position.y() + yPosition);
+    private boolean isEnPassantCapture(int targetSquare, Board board) {
+        if (targetSquare != board.getEnPassantSquare()) {
+            return false;
+        }
+        Piece pushedPawn = board.pieceAt(color == Color.WHITE ? targetSquare - Board.SIZE : targetSquare + Board.SIZE);
+        return pushedPawn != null && pushedPawn.color != color && pushedPawn.getType() == PieceType.PAWN;
     }
 
-    private Position diagonalToTheRight() {
-        int yPosition = (color == Color.BLACK) ? -1 : 1;
-        return new Position(position.x() + 1, position.y() + yPosition);
+    @Override
+    Piece copy() {
+        Pawn copy = new Pawn(color, position);
+        copy.isInInitialPosition = isInInitialPosition;
+        return copy;
     }
 
-    private Position onePositionAhead() {
-        int yPosition = (color == Color.BLACK) ? -1 : 1;
-        return new Position(position.x(), position.y() + yPosition);
+    boolean isInInitialPosition() {
+        return isInInitialPosition;
     }
 
-    private Position twoPositionAhead() {
-        int yPosition = (color == Color.BLACK) ? -2 : 2;
-        return new Position(position.x(), position.y() + yPosition);
+    void setInInitialPosition(boolean isInInitialPosition) {
+        this.isInInitialPosition = isInInitialPosition;
     }
 
-    private boolean notInTheLastRow() {
-        boolean inTheLastRow = (color == Color.WHITE && Board.SIZE == position.y());
-        inTheLastRow = inTheLastRow || (color == Color.BLACK && position.y() == 1);
-        return !inTheLastRow;
+    private static int squareAt(int x, int y) {
+        if (x < 0 || x >= Board.SIZE || y < 0 || y >= Board.SIZE) {
+            return Board.NO_SQUARE;
+        }
+        return y * Board.SIZE + x;
     }
 }
@@ -0,0 +1,29 @@
+package com.chess.chess.model;
+
+public final class Perft {
+
+    private Perft() {
+    }
+
+    public static long perft(Board board, int depth) {
+        return perft(board, depth, new int[depth + 1][MoveGenerator.MAX_MOVES]);
+    }
+
+    private static long perft(Board board, int depth, int[][] moveBuffers) {
+        if (depth == 0) {
+            return 1;
+        }
+        int[] moves = moveBuffers[depth];
+        int count = MoveGenerator.generateLegal(board, moves);
+        if (depth == 1) {
+            return count;
+        }
+        long nodes = 0;
+        for (int i = 0; i < count; i++) {
+            board.makeMove(moves[i]);
+            nodes += perft(board, depth - 1, moveBuffers);
+            board.unmakeMove();
+        }
+        return nodes;
+    }
+}
@@ -12,7 +12,47 @@ public abstract class Piece {
         this.color = color;
     }
 
-    public abstract void moveTo(Position targetPosition, Board board);
+    public static Piece create(PieceType type, Color color, Position position) {
+        return switch (type) {
+            case PAWN -> new Pawn(color, position);
+            case KNIGHT -> new Knight(color, position);
+            case BISHOP -> new Bishop(color, position);
+            case ROOK -> new Rook(color, position);
+            case QUEEN -> new Queen(color, position);
+            case KING -> new King(color, position);
+        };
+    }
+
+    public abstract PieceType getType();
+
+    protected abstract int checkMove(int targetSquare, Board board);
+
+    public void moveTo(Position targetPosition, Board board) {
+        MoveStatus.throwIfInvalid(tryMoveTo(targetPosition, board));
+    }
+
+    public void moveTo(int targetSquare, Board board) {
+        moveTo(Position.of(targetSquare), board);
+    }
+
+    public int tryMoveTo(Position targetPosition, Board board) {
+        return board.tryMove(this, targetPosition);
+    }
+
+    public boolean isLegalMove(Position targetPosition, Board board) {
+        return board.isLegal(this, targetPosition);
+    }
+
+    protected int checkReachable(long reachableSquares, int targetSquare, Board board) {
+        if ((reachableSquares & (1L << targetSquare)) == 0) {
+            return MoveStatus.UNREACHABLE;
+        }
+        Piece occupant = board.pieceAt(targetSquare);
+        if (occupant != null && occupant.color == color) {
+            return MoveStatus.OCCUPIED_BY_OWN_PIECE;
+        }
+        return MoveStatus.LEGAL;
+    }
 
     protected void setPosition(Position position) {
         this.position = position;
@@ -22,6 +62,18 @@ public abstract class Piece {
         return position;
     }
 
+    public int getSquare() {
+        return position.square();
+    }
+
+    public Color getColor() {
+        return color;
+    }
+
+    Piece copy() {
+        return create(getType(), color, position);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
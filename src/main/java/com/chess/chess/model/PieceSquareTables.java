@@ -0,0 +1,139 @@
+package com.chess.chess.model;
+
+// Material plus piece-square bonuses, packed as midgame << 16 + endgame so that one int add updates both phases.
+// Tables are written from White's side with rank 8 on top; Black uses them mirrored and negated.
+public final class PieceSquareTables {
+
+    public static final int MAX_PHASE = 24;
+
+    static final int[] PHASE = {0, 1, 1, 2, 4, 0};
+
+    private static final int[] MIDGAME_VALUES = {100, 320, 330, 500, 900, 0};
+    private static final int[] ENDGAME_VALUES = {120, 300, 320, 520, 920, 0};
+
+    private static final int[] PAWN = {
+            0, 0, 0, 0, 0, 0, 0, 0,
+            50, 50, 50, 50, 50, 50, 50, 50,
+            10, 10, 20, 30, 30, 20, 10, 10,
+            5, 5, 10, 25, 25, 10, 5, 5,
+            0, 0, 0, 20, 20, 0, 0, 0,
+            5, -5, -10, 0, 0, -10, -5, 5,
+            5, 10, 10, -20, -20, 10, 10, 5,
+            0, 0, 0, 0, 0, 0, 0, 0
+    };
+    private static final int[] PAWN_ENDGAME = {
+            0, 0, 0, 0, 0, 0, 0, 0,
+            80, 80, 80, 80, 80, 80, 80, 80,
+            50, 50, 50, 50, 50, 50, 50, 50,
+            30, 30, 30, 30, 30, 30, 30, 30,
+            20, 20, 20, 20, 20, 20, 20, 20,
+            10, 10, 10, 10, 10, 10, 10, 10,
+            0, 0, 0, 0, 0, 0, 0, 0,
+            0, 0, 0, 0, 0, 0, 0, 0
+    };
+    private static final int[] KNIGHT = {
+            -50, -40, -30, -30, -30, -30, -40, -50,
+            -40, -20, 0, 0, 0, 0, -20, -40,
+            -30, 0, 10, 15, 15, 10, 0, -30,
+            -30, 5, 15, 20, 20, 15, 5, -30,
+            -30, 0, 15, 20, 20, 15, 0, -30,
+            -30, 5, 10, 15, 15, 10, 5, -30,
+            -40, -20, 0, 5, 5, 0, -20, -40,
+            -50, -40, -30, -30, -30, -30, -40, -50
+    };
+    private static final int[] BISHOP = {
+            -20, -10, -10, -10, -10, -10, -10, -20,
+            -10, 0, 0, 0, 0, 0, 0, -10,
+            -10, 0, 5, 10, 10, 5, 0, -10,
+            -10, 5, 5, 10, 10, 5, 5, -10,
+            -10, 0, 10, 10, 10, 10, 0, -10,
+            -10, 10, 10, 10, 10, 10, 10, -10,
+            -10, 5, 0, 0, 0, 0, 5, -10,
+            -20, -10, -10, -10, -10, -10, -10, -20
+    };
+    private static final int[] ROOK = {
+            0, 0, 0, 0, 0, 0, 0, 0,
+            5, 10, 10, 10, 10, 10, 10, 5,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            0, 0, 0, 5, 5, 0, 0, 0
+    };
+    private static final int[] QUEEN = {
+            -20, -10, -10, -5, -5, -10, -10, -20,
+            -10, 0, 0, 0, 0, 0, 0, -10,
+            -10, 0, 5, 5, 5, 5, 0, -10,
+            -5, 0, 5, 5, 5, 5, 0, -5,
+            0, 0, 5, 5, 5, 5, 0, -5,
+            -10, 5, 5, 5, 5, 5, 0, -10,
+            -10, 0, 5, 0, 0, 0, 0, -10,
+            -20, -10, -10, -5, -5, -10, -10, -20
+    };
+    private static final int[] KING = {
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -20, -30, -30, -40, -40, -30, -30, -20,
+            -10, -20, -20, -20, -20, -20, -20, -10,
+            20, 20, 0, 0, 0, 0, 20, 20,
+            20, 30, 10, 0, 0, 10, 30, 20
+    };
+    private static final int[] KING_ENDGAME = {
+            -50, -40, -30, -20, -20, -30, -40, -50,
+            -30, -20, -10, 0, 0, -10, -20, -30,
+            -30, -10, 20, 30, 30, 20, -10, -30,
+            -30, -10, 30, 40, 40, 30, -10, -30,
+            -30, -10, 30, 40, 40, 30, -10, -30,
+            -30, -10, 20, 30, 30, 20, -10, -30,
+            -30, -30, 0, 0, 0, 0, -30, -30,
+            -50, -30, -30, -30, -30, -30, -30, -50
+    };
+
+    private static final int[][] MIDGAME = {PAWN, KNIGHT, BISHOP, ROOK, QUEEN, KING};
+    private static final int[][] ENDGAME = {PAWN_ENDGAME, KNIGHT, BISHOP, ROOK, QUEEN, KING_ENDGAME};
+
+    // Indexed by (color * PieceType.COUNT + type) * 64 + square, like Board's bitboards.
+    private static final int[] SCORES = new int[2 * PieceType.COUNT * Board.SQUARES];
+
+    static {
+        for (Color color : Color.values()) {
+            int sign = color == Color.WHITE ? 1 : -1;
+            for (PieceType type : PieceType.values()) {
+                int piece = type.ordinal();
+                for (int square = 0; square < Board.SQUARES; square++) {
+                    int rank = square / Board.SIZE;
+                    int row = color == Color.WHITE ? Board.SIZE - 1 - rank : rank;
+                    int table = row * Board.SIZE + square % Board.SIZE;
+                    SCORES[(color.ordinal() * PieceType.COUNT + piece) * Board.SQUARES + square] = sign * score(
+                            MIDGAME_VALUES[piece] + MIDGAME[piece][table], ENDGAME_VALUES[piece] + ENDGAME[piece][table]);
+                }
+            }
+        }
+    }
+
+    private PieceSquareTables() {
+    }
+
+    public static int score(int midgame, int endgame) {
+        return (midgame << 16) + endgame;
+    }
+
+    public static int midgame(int score) {
+        return (score + 0x8000) >> 16;
+    }
+
+    public static int endgame(int score) {
+        return (short) score;
+    }
+
+    public static int score(Color color, PieceType type, int square) {
+        return SCORES[(color.ordinal() * PieceType.COUNT + type.ordinal()) * Board.SQUARES + square];
+    }
+
+    static int pieceScore(int bitboardIndex, int square) {
+        return SCORES[bitboardIndex * Board.SQUARES + square];
+    }
+}
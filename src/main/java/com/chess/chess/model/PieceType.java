@@ -0,0 +1,7 @@
+package com.chess.chess.model;
+
+public enum PieceType {
+    PAWN, KNIGHT, BISHOP, ROOK, QUEEN, KING;
+
+    public static final int COUNT = values().length;
+}
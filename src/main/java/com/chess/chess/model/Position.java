@@ -1,4 +1,38 @@
 package com.chess.chess.model;
 
 public record Position(int x, int y) {
-}
\ No newline at end of file
+
+    private static final Position[] POSITIONS = new Position[Board.SQUARES];
+
+    static {
+        for (int square = 0; square < Board.SQUARES; square++) {
+            POSITIONS[square] = new Position(square % Board.SIZE + 1, square / Board.SIZE + 1);
+        }
+    }
+
+    public static Position of(int x, int y) {
+        if (!isOnBoard(x, y)) {
+            throw new InvalidPositionException();
+        }
+        return POSITIONS[(y - 1) * Board.SIZE + (x - 1)];
+    }
+
+    public static Position of(int square) {
+        if (square < 0 || square >= Board.SQUARES) {
+            throw new InvalidPositionException();
+        }
+        return POSITIONS[square];
+    }
+
+    public int square() {
+        return (y - 1) * Board.SIZE + (x - 1);
+    }
+
+    public boolean isOnBoard() {
+        return isOnBoard(x, y);
+    }
+
+    private static boolean isOnBoard(int x, int y) {
+        return x >= 1 && x <= Board.SIZE && y >= 1 && y <= Board.SIZE;
+    }
+}
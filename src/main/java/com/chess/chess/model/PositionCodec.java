@@ -0,0 +1,130 @@
+package com.chess.chess.model;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class PositionCodec {
+
+    public static final int RECORD_SIZE = 32;
+    public static final int MAX_PIECES = 32;
+    public static final int EMPTY = -1;
+
+    // Layout: occupancy (8 bytes), one 4-bit piece code per occupied square in
+    // square order (16 bytes), side to move and castling rights (1 byte),
+    // en passant square + 1 (1 byte), halfmove clock (1 byte), reserved (1 byte),
+    // fullmove number (2 bytes), reserved (2 bytes).
+    private static final int OCCUPANCY_OFFSET = 0;
+    private static final int PIECES_OFFSET = 8;
+    private static final int STATE_OFFSET = 24;
+    private static final int EN_PASSANT_OFFSET = 25;
+    private static final int HALFMOVE_OFFSET = 26;
+    private static final int FULLMOVE_OFFSET = 28;
+
+    private PositionCodec() {
+    }
+
+    public static void encode(Board board, ByteBuffer buffer, int offset) {
+        long occupied = board.occupancy();
+        if (Long.bitCount(occupied) > MAX_PIECES) {
+            throw new IllegalArgumentException("Too many pieces to encode: " + Long.bitCount(occupied));
+        }
+        buffer.putLong(offset + OCCUPANCY_OFFSET, occupied);
+        long low = 0;
+        long high = 0;
+        int index = 0;
+        for (long remaining = occupied; remaining != 0; remaining &= remaining - 1, index++) {
+            Piece piece = board.pieceAt(Long.numberOfTrailingZeros(remaining));
+            long code = pieceCode(piece.getColor(), piece.getType());
+            if (index < 16) {
+                low |= code << (index * 4);
+            } else {
+                high |= code << ((index - 16) * 4);
+            }
+        }
+        buffer.putLong(offset + PIECES_OFFSET, low);
+        buffer.putLong(offset + PIECES_OFFSET + Long.BYTES, high);
+        int state = board.getSideToMove().ordinal() | board.getCastlingRights() << 1;
+        buffer.put(offset + STATE_OFFSET, (byte) state);
+        buffer.put(offset + EN_PASSANT_OFFSET, (byte) (board.getEnPassantSquare() + 1));
+        buffer.put(offset + HALFMOVE_OFFSET, (byte) Math.min(board.getHalfmoveClock(), 0xFF));
+        buffer.put(offset + HALFMOVE_OFFSET + 1, (byte) 0);
+        buffer.putShort(offset + FULLMOVE_OFFSET, (short) Math.min(board.getFullmoveNumber(), 0xFFFF));
+        buffer.putShort(offset + FULLMOVE_OFFSET + Short.BYTES, (short) 0);
+    }
+
+    public static Board decode(ByteBuffer buffer, int offset) {
+        long occupied = occupancy(buffer, offset);
+        List<Piece> pieces = new ArrayList<>(Long.bitCount(occupied));
+        int index = 0;
+        for (long remaining = occupied; remaining != 0; remaining &= remaining - 1, index++) {
+            int square = Long.numberOfTrailingZeros(remaining);
+            int code = codeAt(buffer, offset, index);
+            pieces.add(Piece.create(typeOf(code), colorOf(code), Position.of(square)));
+        }
+        Board board = new Board(pieces);
+        board.setSideToMove(sideToMove(buffer, offset));
+        board.setCastlingRights(castlingRights(buffer, offset));
+        board.setEnPassantSquare(enPassantSquare(buffer, offset));
+        board.setMoveCounters(Byte.toUnsignedInt(buffer.get(offset + HALFMOVE_OFFSET)),
+                Short.toUnsignedInt(buffer.getShort(offset + FULLMOVE_OFFSET)));
+        return board;
+    }
+
+    public static long occupancy(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + OCCUPANCY_OFFSET);
+    }
+
+    public static int pieceCodeAt(ByteBuffer buffer, int offset, int square) {
+        long occupied = occupancy(buffer, offset);
+        if ((occupied & (1L << square)) == 0) {
+            return EMPTY;
+        }
+        return codeAt(buffer, offset, Long.bitCount(occupied & ((1L << square) - 1)));
+    }
+
+    public static Color sideToMove(ByteBuffer buffer, int offset) {
+        return (buffer.get(offset + STATE_OFFSET) & 1) == 0 ? Color.WHITE : Color.BLACK;
+    }
+
+    public static int castlingRights(ByteBuffer buffer, int offset) {
+        return (buffer.get(offset + STATE_OFFSET) >>> 1) & 0xF;
+    }
+
+    public static int enPassantSquare(ByteBuffer buffer, int offset) {
+        return buffer.get(offset + EN_PASSANT_OFFSET) - 1;
+    }
+
+    public static long hash(ByteBuffer buffer, int offset) {
+        long occupied = occupancy(buffer, offset);
+        long hash = 0;
+        int index = 0;
+        for (long remaining = occupied; remaining != 0; remaining &= remaining - 1, index++) {
+            int square = Long.numberOfTrailingZeros(remaining);
+            int code = codeAt(buffer, offset, index);
+            hash ^= Zobrist.piece(code, square);
+            if (typeOf(code) == PieceType.PAWN && Pawn.isStartSquare(colorOf(code), square)) {
+                hash ^= Zobrist.pawnInInitialPosition(square);
+            }
+        }
+        return hash ^ Zobrist.castling(castlingRights(buffer, offset)) ^
+                Zobrist.enPassant(enPassantSquare(buffer, offset)) ^ Zobrist.sideToMove(sideToMove(buffer, offset));
+    }
+
+    public static int pieceCode(Color color, PieceType type) {
+        return color.ordinal() * PieceType.COUNT + type.ordinal();
+    }
+
+    public static Color colorOf(int pieceCode) {
+        return pieceCode < PieceType.COUNT ? Color.WHITE : Color.BLACK;
+    }
+
+    public static PieceType typeOf(int pieceCode) {
+        return PieceType.values()[pieceCode % PieceType.COUNT];
+    }
+
+    private static int codeAt(ByteBuffer buffer, int offset, int index) {
+        long codes = buffer.getLong(offset + PIECES_OFFSET + (index < 16 ? 0 : Long.BYTES));
+        return (int) (codes >>> ((index & 15) * 4)) & 0xF;
+    }
+}
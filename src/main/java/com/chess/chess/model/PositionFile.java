@@ -0,0 +1,106 @@
+package com.chess.chess.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class PositionFile {
+
+    private static final long RECORDS_PER_CHUNK = Integer.MAX_VALUE / PositionCodec.RECORD_SIZE;
+    private static final int WRITE_BATCH_RECORDS = 4096;
+
+    private final ByteBuffer[] chunks;
+    private final long size;
+
+    private PositionFile(ByteBuffer[] chunks, long size) {
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    public static PositionFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size() / PositionCodec.RECORD_SIZE;
+            int chunkCount = (int) ((size + RECORDS_PER_CHUNK - 1) / RECORDS_PER_CHUNK);
+            ByteBuffer[] chunks = new ByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                long firstRecord = i * RECORDS_PER_CHUNK;
+                long records = Math.min(RECORDS_PER_CHUNK, size - firstRecord);
+                MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY,
+                        firstRecord * PositionCodec.RECORD_SIZE, records * PositionCodec.RECORD_SIZE);
+                chunks[i] = chunk.order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new PositionFile(chunks, size);
+        }
+    }
+
+    public static void write(Path path, Iterable<Board> boards) throws IOException {
+        ByteBuffer batch = ByteBuffer.allocateDirect(WRITE_BATCH_RECORDS * PositionCodec.RECORD_SIZE).
+                order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Board board : boards) {
+                if (!batch.hasRemaining()) {
+                    flush(batch, channel);
+                }
+                PositionCodec.encode(board, batch, batch.position());
+                batch.position(batch.position() + PositionCodec.RECORD_SIZE);
+            }
+            flush(batch, channel);
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    private static void flush(ByteBuffer batch, FileChannel channel) throws IOException {
+        batch.flip();
+        while (batch.hasRemaining()) {
+            channel.write(batch);
+        }
+        batch.clear();
+    }
+
+    public class Cursor {
+
+        private ByteBuffer buffer;
+        private int offset;
+
+        public Cursor seek(long index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Position " + index + " outside of " + size);
+            }
+            buffer = chunks[(int) (index / RECORDS_PER_CHUNK)];
+            offset = (int) (index % RECORDS_PER_CHUNK) * PositionCodec.RECORD_SIZE;
+            return this;
+        }
+
+        public long occupancy() {
+            return PositionCodec.occupancy(buffer, offset);
+        }
+
+        public int pieceCodeAt(int square) {
+            return PositionCodec.pieceCodeAt(buffer, offset, square);
+        }
+
+        public Color sideToMove() {
+            return PositionCodec.sideToMove(buffer, offset);
+        }
+
+        public long hash() {
+            return PositionCodec.hash(buffer, offset);
+        }
+
+        public Board toBoard() {
+            return PositionCodec.decode(buffer, offset);
+        }
+    }
+}
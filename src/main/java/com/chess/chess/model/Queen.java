@@ -0,0 +1,18 @@
+package com.chess.chess.model;
+
+public class Queen extends Piece {
+
+    public Queen(Color color, Position position) {
+        super(color, position);
+    }
+
+    @Override
+    public PieceType getType() {
+        return PieceType.QUEEN;
+    }
+
+    @Override
+    protected int checkMove(int targetSquare, Board board) {
+        return checkReachable(Attacks.queen(getSquare(), board.occupancy()), targetSquare, board);
+    }
+}
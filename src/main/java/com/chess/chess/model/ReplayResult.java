@@ -0,0 +1,22 @@
+package com.chess.chess.model;
+
+public record ReplayResult(int[] statuses, int[] firstIllegalMoves) {
+
+    public static final int NO_ILLEGAL_MOVE = -1;
+
+    public int games() {
+        return statuses.length;
+    }
+
+    public boolean isValid(int game) {
+        return statuses[game] == MoveStatus.LEGAL;
+    }
+
+    public int status(int game) {
+        return statuses[game];
+    }
+
+    public int firstIllegalMove(int game) {
+        return firstIllegalMoves[game];
+    }
+}
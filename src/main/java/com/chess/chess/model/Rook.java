@@ -0,0 +1,18 @@
+package com.chess.chess.model;
+
+public class Rook extends Piece {
+
+    public Rook(Color color, Position position) {
+        super(color, position);
+    }
+
+    @Override
+    public PieceType getType() {
+        return PieceType.ROOK;
+    }
+
+    @Override
+    protected int checkMove(int targetSquare, Board board) {
+        return checkReachable(Attacks.rook(getSquare(), board.occupancy()), targetSquare, board);
+    }
+}
@@ -0,0 +1,107 @@
+package com.chess.chess.model;
+
+public final class San {
+
+    private static final String PIECE_LETTERS = "PNBRQK";
+    private static final String PROMOTION_LETTERS = "NBRQ";
+
+    private San() {
+    }
+
+    public static int parse(Board board, String san) {
+        return parse(board, san, new int[MoveGenerator.MAX_MOVES]);
+    }
+
+    public static int parse(Board board, String san, int[] moves) {
+        int end = san.length();
+        while (end > 0 && "+#!?".indexOf(san.charAt(end - 1)) >= 0) {
+            end--;
+        }
+        String move = san.substring(0, end);
+        if (move.endsWith("e.p.")) {
+            move = move.substring(0, move.length() - 4);
+        }
+        int count = MoveGenerator.generateLegal(board, moves);
+        if (move.equals("O-O") || move.equals("0-0")) {
+            return find(moves, count, Move.KING_CASTLE);
+        }
+        if (move.equals("O-O-O") || move.equals("0-0-0")) {
+            return find(moves, count, Move.QUEEN_CASTLE);
+        }
+        return parseRegular(board, move, moves, count);
+    }
+
+    private static int parseRegular(Board board, String move, int[] moves, int count) {
+        int end = move.length();
+        PieceType promotion = null;
+        // The '=' before the promotion piece is optional: "e8=Q" and "e8Q" are both common.
+        int equals = move.indexOf('=');
+        if (equals >= 0 && equals == end - 2) {
+            int letter = PROMOTION_LETTERS.indexOf(move.charAt(end - 1));
+            if (letter < 0) {
+                return Move.NONE;
+            }
+            promotion = PieceType.values()[PieceType.KNIGHT.ordinal() + letter];
+            end = equals;
+        } else if (end >= 3 && Character.isDigit(move.charAt(end - 2))) {
+            int letter = PROMOTION_LETTERS.indexOf(move.charAt(end - 1));
+            if (letter >= 0) {
+                promotion = PieceType.values()[PieceType.KNIGHT.ordinal() + letter];
+                end--;
+            }
+        }
+        if (end < 2) {
+            return Move.NONE;
+        }
+        int to = Move.square(move.charAt(end - 2), move.charAt(end - 1));
+        if (to == Board.NO_SQUARE) {
+            return Move.NONE;
+        }
+        int start = 0;
+        PieceType type = PieceType.PAWN;
+        int letter = PIECE_LETTERS.indexOf(move.charAt(0));
+        if (letter > 0) {
+            type = PieceType.values()[letter];
+            start = 1;
+        }
+        int fromFile = -1;
+        int fromRank = -1;
+        for (int i = start; i < end - 2; i++) {
+            char c = move.charAt(i);
+            if (c >= 'a' && c <= 'h') {
+                fromFile = c - 'a';
+            } else if (c >= '1' && c <= '8') {
+                fromRank = c - '1';
+            } else if (c != 'x' && c != '-') {
+                return Move.NONE;
+            }
+        }
+
+        int found = Move.NONE;
+        for (int i = 0; i < count; i++) {
+            int candidate = moves[i];
+            int from = Move.from(candidate);
+            if (Move.to(candidate) != to || Move.isCastle(candidate) ||
+                    board.pieceAt(from).getType() != type ||
+                    (fromFile >= 0 && from % Board.SIZE != fromFile) ||
+                    (fromRank >= 0 && from / Board.SIZE != fromRank) ||
+                    (Move.isPromotion(candidate) ? Move.promotionType(candidate) != promotion : promotion != null)) {
+                continue;
+            }
+            if (found != Move.NONE) {
+                return Move.NONE;
+            }
+            found = candidate;
+        }
+        return found;
+    }
+
+    private static int find(int[] moves, int count, int flag) {
+        for (int i = 0; i < count; i++) {
+            if (Move.flag(moves[i]) == flag) {
+                return moves[i];
+            }
+        }
+        return Move.NONE;
+    }
+}
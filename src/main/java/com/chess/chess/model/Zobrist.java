@@ -0,0 +1,88 @@
+package com.chess.chess.model;
+
+import java.util.SplittableRandom;
+
+public final class Zobrist {
+
+    private static final long SEED = 0x5EED_C0FF_EE15_600DL;
+
+    private static final long[][] PIECES = new long[2 * PieceType.COUNT][Board.SQUARES];
+    private static final long[] PAWN_IN_INITIAL_POSITION = new long[Board.SQUARES];
+    private static final long[] CASTLING = new long[16];
+    private static final long[] EN_PASSANT_FILE = new long[Board.SIZE];
+    private static final long BLACK_TO_MOVE;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (long[] keys : PIECES) {
+            for (int square = 0; square < Board.SQUARES; square++) {
+                keys[square] = random.nextLong();
+            }
+        }
+        for (int square = 0; square < Board.SQUARES; square++) {
+            PAWN_IN_INITIAL_POSITION[square] = random.nextLong();
+        }
+        for (int rights = 1; rights < CASTLING.length; rights++) {
+            CASTLING[rights] = random.nextLong();
+        }
+        for (int file = 0; file < Board.SIZE; file++) {
+            EN_PASSANT_FILE[file] = random.nextLong();
+        }
+        BLACK_TO_MOVE = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    public static long hash(Board board) {
+        long hash = 0;
+        for (int square = 0; square < Board.SQUARES; square++) {
+            Piece piece = board.pieceAt(square);
+            if (piece != null) {
+                hash ^= piece(piece, square);
+            }
+        }
+        return hash ^ castling(board.getCastlingRights()) ^ enPassant(board.getEnPassantSquare()) ^
+                sideToMove(board.getSideToMove());
+    }
+
+    // Pawn placement only, so positions that differ elsewhere share pawn-structure cache entries.
+    public static long pawnHash(Board board) {
+        long hash = 0;
+        for (Color color : Color.values()) {
+            int pieceCode = color.ordinal() * PieceType.COUNT + PieceType.PAWN.ordinal();
+            for (long pawns = board.bitboard(color, PieceType.PAWN); pawns != 0; pawns &= pawns - 1) {
+                hash ^= piece(pieceCode, Long.numberOfTrailingZeros(pawns));
+            }
+        }
+        return hash;
+    }
+
+    static long piece(Piece piece, int square) {
+        long key = piece(piece.color.ordinal() * PieceType.COUNT + piece.getType().ordinal(), square);
+        if (piece instanceof Pawn pawn && pawn.isInInitialPosition()) {
+            key ^= PAWN_IN_INITIAL_POSITION[square];
+        }
+        return key;
+    }
+
+    static long piece(int pieceCode, int square) {
+        return PIECES[pieceCode][square];
+    }
+
+    static long pawnInInitialPosition(int square) {
+        return PAWN_IN_INITIAL_POSITION[square];
+    }
+
+    static long castling(int rights) {
+        return CASTLING[rights];
+    }
+
+    static long enPassant(int square) {
+        return square == Board.NO_SQUARE ? 0L : EN_PASSANT_FILE[square % Board.SIZE];
+    }
+
+    static long sideToMove(Color color) {
+        return color == Color.BLACK ? BLACK_TO_MOVE : 0L;
+    }
+}
@@ -0,0 +1,161 @@
+package com.chess.chess.pgn;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.LongStream;
+
+public class GameIndex {
+
+    public static final int RECORD_SIZE = 72;
+
+    private static final int OFFSET = 0;
+    private static final int LENGTH = 8;
+    private static final int PLIES = 12;
+    private static final int RESULT = 14;
+    private static final int FLAGS = 15;
+    private static final int FINAL_HASH = 16;
+    private static final int WHITE = 24;
+    private static final int BLACK = 48;
+    private static final int NAME_BYTES = 24;
+    private static final int VALID_FLAG = 1;
+    private static final long RECORDS_PER_CHUNK = Integer.MAX_VALUE / RECORD_SIZE;
+    private static final int WRITE_BATCH_RECORDS = 4096;
+
+    private final ByteBuffer[] chunks;
+    private final long size;
+
+    private GameIndex(ByteBuffer[] chunks, long size) {
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    public static GameIndex open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size() / RECORD_SIZE;
+            int chunkCount = (int) ((size + RECORDS_PER_CHUNK - 1) / RECORDS_PER_CHUNK);
+            ByteBuffer[] chunks = new ByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                long firstRecord = i * RECORDS_PER_CHUNK;
+                long records = Math.min(RECORDS_PER_CHUNK, size - firstRecord);
+                MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY,
+                        firstRecord * RECORD_SIZE, records * RECORD_SIZE);
+                chunks[i] = chunk.order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new GameIndex(chunks, size);
+        }
+    }
+
+    public static Writer writer(Path path) throws IOException {
+        return new Writer(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING));
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public GameIndexEntry entry(long index) {
+        ByteBuffer buffer = chunk(index);
+        int offset = recordOffset(index);
+        return new GameIndexEntry(
+                buffer.getLong(offset + OFFSET),
+                buffer.getInt(offset + LENGTH),
+                buffer.getShort(offset + PLIES) & 0xFFFF,
+                GameResult.values()[buffer.get(offset + RESULT)],
+                (buffer.get(offset + FLAGS) & VALID_FLAG) != 0,
+                buffer.getLong(offset + FINAL_HASH),
+                readName(buffer, offset + WHITE),
+                readName(buffer, offset + BLACK));
+    }
+
+    public long finalHash(long index) {
+        return chunk(index).getLong(recordOffset(index) + FINAL_HASH);
+    }
+
+    public LongStream findByFinalHash(long hash) {
+        return LongStream.range(0, size).filter(index -> finalHash(index) == hash);
+    }
+
+    private ByteBuffer chunk(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Game " + index + " outside of " + size);
+        }
+        return chunks[(int) (index / RECORDS_PER_CHUNK)];
+    }
+
+    private static int recordOffset(long index) {
+        return (int) (index % RECORDS_PER_CHUNK) * RECORD_SIZE;
+    }
+
+    private static String readName(ByteBuffer buffer, int offset) {
+        byte[] name = new byte[NAME_BYTES];
+        buffer.get(offset, name);
+        int length = 0;
+        while (length < NAME_BYTES && name[length] != 0) {
+            length++;
+        }
+        return new String(name, 0, length, StandardCharsets.UTF_8);
+    }
+
+    public static class Writer implements Closeable {
+
+        private final FileChannel channel;
+        private final ByteBuffer batch = ByteBuffer.allocateDirect(WRITE_BATCH_RECORDS * RECORD_SIZE).
+                order(ByteOrder.LITTLE_ENDIAN);
+
+        private Writer(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        public void write(GameIndexEntry entry) throws IOException {
+            if (!batch.hasRemaining()) {
+                flush();
+            }
+            int offset = batch.position();
+            batch.putLong(offset + OFFSET, entry.offset());
+            batch.putInt(offset + LENGTH, entry.length());
+            batch.putShort(offset + PLIES, (short) Math.min(entry.plies(), 0xFFFF));
+            batch.put(offset + RESULT, (byte) entry.result().ordinal());
+            batch.put(offset + FLAGS, (byte) (entry.valid() ? VALID_FLAG : 0));
+            batch.putLong(offset + FINAL_HASH, entry.finalHash());
+            writeName(offset + WHITE, entry.white());
+            writeName(offset + BLACK, entry.black());
+            batch.position(offset + RECORD_SIZE);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+
+        private void writeName(int offset, String name) {
+            byte[] bytes = name == null ? new byte[0] : name.getBytes(StandardCharsets.UTF_8);
+            int length = Math.min(bytes.length, NAME_BYTES);
+            while (length < bytes.length && length > 0 && (bytes[length] & 0xC0) == 0x80) {
+                length--;
+            }
+            for (int i = 0; i < NAME_BYTES; i++) {
+                batch.put(offset + i, i < length ? bytes[i] : 0);
+            }
+        }
+
+        private void flush() throws IOException {
+            batch.flip();
+            while (batch.hasRemaining()) {
+                channel.write(batch);
+            }
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.chess.chess.pgn;
+
+public record GameIndexEntry(long offset, int length, int plies, GameResult result, boolean valid, long finalHash,
+                             String white, String black) {
+}
@@ -0,0 +1,36 @@
+package com.chess.chess.pgn;
+
+public enum GameResult {
+    UNKNOWN("*"),
+    WHITE_WINS("1-0"),
+    BLACK_WINS("0-1"),
+    DRAW("1/2-1/2");
+
+    private final String notation;
+
+    GameResult(String notation) {
+        this.notation = notation;
+    }
+
+    public String getNotation() {
+        return notation;
+    }
+
+    public static GameResult of(String notation) {
+        for (GameResult result : values()) {
+            if (result.notation.equals(notation)) {
+                return result;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    static boolean isResult(String token) {
+        for (GameResult result : values()) {
+            if (result.notation.equals(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,10 @@
+package com.chess.chess.pgn;
+
+import java.util.Map;
+
+public record PgnGame(long offset, int length, Map<String, String> tags, String movetext) {
+
+    public String tag(String name) {
+        return tags.get(name);
+    }
+}
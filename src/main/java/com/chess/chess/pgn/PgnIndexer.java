@@ -0,0 +1,156 @@
+package com.chess.chess.pgn;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.Move;
+import com.chess.chess.model.MoveGenerator;
+import com.chess.chess.model.San;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public final class PgnIndexer {
+
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final PgnGame END_OF_INPUT = new PgnGame(-1, 0, Map.of(), "");
+
+    private PgnIndexer() {
+    }
+
+    public static long index(Path pgn, Path index) throws IOException {
+        BlockingQueue<PgnGame> games = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        ExecutorService readerStage = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "pgn-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Future<?> reading = readerStage.submit(() -> {
+            try (PgnReader reader = PgnReader.open(pgn)) {
+                PgnGame game;
+                while ((game = reader.next()) != null) {
+                    games.put(game);
+                }
+            } finally {
+                games.put(END_OF_INPUT);
+            }
+            return null;
+        });
+
+        long indexed = 0;
+        try (GameIndex.Writer writer = GameIndex.writer(index)) {
+            int[] moves = new int[MoveGenerator.MAX_MOVES];
+            PgnGame game;
+            while ((game = games.take()) != END_OF_INPUT) {
+                writer.write(replay(game, moves));
+                indexed++;
+            }
+            reading.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while indexing " + pgn);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw new IOException("Failed to read " + pgn, e.getCause());
+        } finally {
+            readerStage.shutdownNow();
+        }
+        return indexed;
+    }
+
+    public static GameIndexEntry replay(PgnGame game, int[] moves) {
+        Board board;
+        try {
+            board = Fen.parse(game.tags().getOrDefault("FEN", Fen.INITIAL_POSITION));
+        } catch (IllegalArgumentException e) {
+            return entry(game, 0, false, 0);
+        }
+        int plies = 0;
+        boolean valid = true;
+        for (String token : movetextTokens(game.movetext())) {
+            int move = San.parse(board, token, moves);
+            if (move == Move.NONE) {
+                valid = false;
+                break;
+            }
+            board.makeMove(move);
+            plies++;
+        }
+        return entry(game, plies, valid, board.getHash());
+    }
+
+    static List<String> movetextTokens(String movetext) {
+        List<String> tokens = new ArrayList<>();
+        int depth = 0;
+        int i = 0;
+        int length = movetext.length();
+        while (i < length) {
+            char c = movetext.charAt(i);
+            if (c == '{') {
+                int close = movetext.indexOf('}', i);
+                i = close < 0 ? length : close + 1;
+                continue;
+            }
+            if (c == '(') {
+                depth++;
+                i++;
+                continue;
+            }
+            if (c == ')') {
+                depth = Math.max(0, depth - 1);
+                i++;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < length && !Character.isWhitespace(movetext.charAt(i)) &&
+                    "{()".indexOf(movetext.charAt(i)) < 0) {
+                i++;
+            }
+            if (depth > 0) {
+                continue;
+            }
+            String token = stripMoveNumber(movetext.substring(start, i));
+            if (GameResult.isResult(token)) {
+                break;
+            }
+            if (!token.isEmpty() && token.charAt(0) != '$') {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static String stripMoveNumber(String token) {
+        int start = 0;
+        while (start < token.length() && Character.isDigit(token.charAt(start))) {
+            start++;
+        }
+        if (start == 0 || start == token.length() || token.charAt(start) != '.') {
+            return token;
+        }
+        while (start < token.length() && token.charAt(start) == '.') {
+            start++;
+        }
+        return token.substring(start);
+    }
+
+    private static GameIndexEntry entry(PgnGame game, int plies, boolean valid, long finalHash) {
+        return new GameIndexEntry(game.offset(), game.length(), plies, GameResult.of(game.tag("Result")), valid,
+                finalHash, game.tag("White"), game.tag("Black"));
+    }
+}
@@ -0,0 +1,123 @@
+package com.chess.chess.pgn;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class PgnReader implements Closeable {
+
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final int INITIAL_LINE_CAPACITY = 256;
+
+    private final FileChannel channel;
+    private final ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK_SIZE);
+    private byte[] line = new byte[INITIAL_LINE_CAPACITY];
+    private int lineLength;
+    private long lineOffset;
+    private long position;
+    private boolean pendingLine;
+
+    private PgnReader(FileChannel channel, long position) throws IOException {
+        this.channel = channel;
+        this.position = position;
+        channel.position(position);
+        chunk.flip();
+    }
+
+    public static PgnReader open(Path path) throws IOException {
+        return open(path, 0);
+    }
+
+    public static PgnReader open(Path path, long offset) throws IOException {
+        return new PgnReader(FileChannel.open(path, StandardOpenOption.READ), offset);
+    }
+
+    public PgnGame next() throws IOException {
+        Map<String, String> tags = new LinkedHashMap<>();
+        StringBuilder movetext = new StringBuilder();
+        long gameOffset = -1;
+        boolean afterBlankLine = false;
+        while (pendingLine || readLine()) {
+            pendingLine = false;
+            String text = new String(line, 0, lineLength, StandardCharsets.UTF_8).trim();
+            if (text.isEmpty()) {
+                afterBlankLine = true;
+                continue;
+            }
+            if (text.charAt(0) == '%') {
+                continue;
+            }
+            boolean tag = text.charAt(0) == '[';
+            // A game with empty movetext ends at the blank line before the next game's Event tag.
+            boolean nextGame = movetext.length() > 0 || (afterBlankLine && !tags.isEmpty() && text.startsWith("[Event "));
+            afterBlankLine = false;
+            if (tag && nextGame) {
+                pendingLine = true;
+                return new PgnGame(gameOffset, (int) (lineOffset - gameOffset), tags, movetext.toString());
+            }
+            if (gameOffset < 0) {
+                gameOffset = lineOffset;
+            }
+            if (tag) {
+                parseTag(text, tags);
+            } else {
+                int comment = text.indexOf(';');
+                movetext.append(comment >= 0 ? text.substring(0, comment) : text).append(' ');
+            }
+        }
+        if (gameOffset < 0) {
+            return null;
+        }
+        return new PgnGame(gameOffset, (int) (position - gameOffset), tags, movetext.toString());
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean readLine() throws IOException {
+        lineLength = 0;
+        lineOffset = position;
+        while (true) {
+            if (!chunk.hasRemaining()) {
+                chunk.clear();
+                int read = channel.read(chunk);
+                chunk.flip();
+                if (read <= 0) {
+                    return position > lineOffset;
+                }
+            }
+            byte next = chunk.get();
+            position++;
+            if (next == '\n') {
+                if (lineLength > 0 && line[lineLength - 1] == '\r') {
+                    lineLength--;
+                }
+                return true;
+            }
+            if (lineLength == line.length) {
+                line = Arrays.copyOf(line, line.length * 2);
+            }
+            line[lineLength++] = next;
+        }
+    }
+
+    private static void parseTag(String text, Map<String, String> tags) {
+        int space = text.indexOf(' ');
+        int firstQuote = text.indexOf('"');
+        int lastQuote = text.lastIndexOf('"');
+        if (space < 0 || firstQuote < 0 || lastQuote <= firstQuote) {
+            return;
+        }
+        String value = text.substring(firstQuote + 1, lastQuote).replace("\\\"", "\"").replace("\\\\", "\\");
+        tags.put(text.substring(1, space), value);
+    }
+}
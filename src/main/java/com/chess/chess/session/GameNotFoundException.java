@@ -0,0 +1,8 @@
+package com.chess.chess.session;
+
+public class GameNotFoundException extends RuntimeException {
+
+    public GameNotFoundException(long id) {
+        super("Game not found: " + id);
+    }
+}
@@ -0,0 +1,112 @@
+package com.chess.chess.session;
+
+import com.chess.chess.journal.GameJournal;
+import com.chess.chess.model.BoardSnapshot;
+import com.chess.chess.model.Fen;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Service
+public class GameService {
+
+    private final GameSessionStore store;
+    private final GameJournal journal;
+    private final AtomicLong nextId = new AtomicLong();
+    // A game is published only once its CREATED record is durable, so no move can be journaled ahead of it. Creations
+    // share the read side; a checkpoint reads the games under the write side, so a game whose CREATED record lies
+    // before the checkpoint's log position is always in the store by the time the checkpoint reads it.
+    private final ReadWriteLock publication = new ReentrantReadWriteLock();
+
+    public GameService(int shards) {
+        this.store = new GameSessionStore(shards);
+        this.journal = GameJournal.disabled();
+    }
+
+    // Rebuilds the games that were live when the journal was last written.
+    @Autowired
+    public GameService(@Value("${chess.sessions.shards}") int shards, GameJournal journal) throws IOException {
+        this.store = new GameSessionStore(shards);
+        this.journal = journal;
+        GameJournal.Recovery recovery = journal.recover();
+        for (GameJournal.RecoveredGame game : recovery.games()) {
+            store.put(new GameSession(game.gameId(), game.board(), journal, game.logPosition(), game.ply()));
+        }
+        nextId.set(recovery.highestGameId());
+    }
+
+    public GameView create() {
+        return create(Fen.INITIAL_POSITION);
+    }
+
+    public GameView create(String fen) {
+        GameSession session = new GameSession(nextId.incrementAndGet(), Fen.parse(fen), journal, 0, 0);
+        publication.readLock().lock();
+        try {
+            session.start();
+            store.put(session);
+        } finally {
+            publication.readLock().unlock();
+        }
+        journal.checkpointIfDue(this::checkpointState);
+        return session.snapshot();
+    }
+
+    public GameView get(long id) {
+        return session(id).snapshot();
+    }
+
+    public BoardSnapshot position(long id) {
+        return session(id).position();
+    }
+
+    public MoveResult move(long id, String uciMove) {
+        MoveResult result = session(id).play(uciMove);
+        journal.checkpointIfDue(this::checkpointState);
+        return result;
+    }
+
+    public void delete(long id) {
+        GameSession session = store.remove(id);
+        if (session == null) {
+            throw new GameNotFoundException(id);
+        }
+        session.end();
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    @PreDestroy
+    public void checkpoint() throws IOException {
+        journal.checkpoint(this::checkpointState);
+    }
+
+    private GameJournal.Checkpoint checkpointState() {
+        List<GameJournal.GameState> games = new ArrayList<>(store.size());
+        publication.writeLock().lock();
+        try {
+            store.forEach(session -> games.add(session.journalState()));
+        } finally {
+            publication.writeLock().unlock();
+        }
+        return new GameJournal.Checkpoint(nextId.get(), games);
+    }
+
+    private GameSession session(long id) {
+        GameSession session = store.get(id);
+        if (session == null) {
+            throw new GameNotFoundException(id);
+        }
+        return session;
+    }
+}
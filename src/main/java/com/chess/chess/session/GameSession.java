@@ -0,0 +1,141 @@
+package com.chess.chess.session;
+
+import com.chess.chess.journal.GameJournal;
+import com.chess.chess.model.Board;
+import com.chess.chess.model.BoardSnapshot;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.Move;
+import com.chess.chess.model.MoveGenerator;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+class GameSession {
+
+    private final long id;
+    private final Board board;
+    private final GameJournal journal;
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private GameStatus status;
+    // Journal position of this game's latest record; journal appends happen under the lock together with the change
+    // they describe, so a checkpoint reading this game under the lock sees a matching board and position.
+    private long logPosition;
+    // Plies played since the game was created; the board's own ply count restarts when a game is recovered.
+    private int ply;
+    // Republished after every move so readers get the position and its history without taking the lock.
+    private volatile BoardSnapshot position;
+
+    GameSession(long id, Board board) {
+        this(id, board, GameJournal.disabled(), 0, 0);
+    }
+
+    GameSession(long id, Board board, GameJournal journal, long logPosition, int ply) {
+        this.id = id;
+        this.board = board;
+        this.journal = journal;
+        this.logPosition = logPosition;
+        this.ply = ply;
+        this.position = BoardSnapshot.of(board);
+        this.status = computeStatus();
+    }
+
+    long getId() {
+        return id;
+    }
+
+    void start() {
+        long durablePosition;
+        lock.lock();
+        try {
+            logPosition = journal.created(id, board);
+            durablePosition = logPosition;
+        } finally {
+            lock.unlock();
+        }
+        journal.awaitDurable(durablePosition);
+    }
+
+    // Waits for the journal outside the lock, so concurrent moves in other games share a commit.
+    MoveResult play(String uciMove) {
+        MoveResult result;
+        long durablePosition;
+        lock.lock();
+        try {
+            result = tryPlay(uciMove);
+            durablePosition = logPosition;
+        } finally {
+            lock.unlock();
+        }
+        journal.awaitDurable(durablePosition);
+        return result;
+    }
+
+    // Moves that looked the game up before it was removed are refused once it has ended.
+    void end() {
+        long durablePosition;
+        lock.lock();
+        try {
+            status = GameStatus.ENDED;
+            logPosition = journal.ended(id);
+            durablePosition = logPosition;
+        } finally {
+            lock.unlock();
+        }
+        journal.awaitDurable(durablePosition);
+    }
+
+    GameView snapshot() {
+        lock.lock();
+        try {
+            return view();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    GameJournal.GameState journalState() {
+        lock.lock();
+        try {
+            return new GameJournal.GameState(id, position, logPosition, ply);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    BoardSnapshot position() {
+        return position;
+    }
+
+    private MoveResult tryPlay(String uciMove) {
+        if (status != GameStatus.IN_PROGRESS) {
+            return new MoveResult(false, view());
+        }
+        int requested = Move.parseUci(uciMove);
+        if (requested == Move.NONE) {
+            return new MoveResult(false, view());
+        }
+        int count = MoveGenerator.generateLegal(board, moves);
+        for (int i = 0; i < count; i++) {
+            if (Move.matchesUci(moves[i], requested)) {
+                board.makeMove(moves[i]);
+                logPosition = journal.moved(id, moves[i]);
+                ply++;
+                position = position.play(moves[i]);
+                status = computeStatus();
+                return new MoveResult(true, view());
+            }
+        }
+        return new MoveResult(false, view());
+    }
+
+    private GameView view() {
+        return new GameView(id, Fen.toFen(board), status, ply);
+    }
+
+    private GameStatus computeStatus() {
+        if (MoveGenerator.generateLegal(board, moves) > 0) {
+            return GameStatus.IN_PROGRESS;
+        }
+        return board.isInCheck() ? GameStatus.CHECKMATE : GameStatus.STALEMATE;
+    }
+}
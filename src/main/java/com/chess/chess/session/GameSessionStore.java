@@ -0,0 +1,78 @@
+package com.chess.chess.session;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+class GameSessionStore {
+
+    private final Shard[] shards;
+    private final int mask;
+
+    GameSessionStore(int shardCount) {
+        if (shardCount <= 0 || Integer.bitCount(shardCount) != 1) {
+            throw new IllegalArgumentException("Shard count must be a positive power of two: " + shardCount);
+        }
+        shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+        mask = shardCount - 1;
+    }
+
+    GameSession get(long id) {
+        return shard(id).get(id);
+    }
+
+    void put(GameSession session) {
+        shard(session.getId()).put(session);
+    }
+
+    GameSession remove(long id) {
+        return shard(id).remove(id);
+    }
+
+    void forEach(Consumer<GameSession> action) {
+        for (Shard shard : shards) {
+            shard.forEach(action);
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    private Shard shard(long id) {
+        long mixed = id * 0x9E3779B97F4A7C15L;
+        return shards[(int) (mixed >>> 32) & mask];
+    }
+
+    private static final class Shard {
+
+        private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+
+        GameSession get(long id) {
+            return sessions.get(id);
+        }
+
+        void put(GameSession session) {
+            sessions.put(session.getId(), session);
+        }
+
+        GameSession remove(long id) {
+            return sessions.remove(id);
+        }
+
+        void forEach(Consumer<GameSession> action) {
+            sessions.values().forEach(action);
+        }
+
+        int size() {
+            return sessions.size();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.chess.chess.session;
+
+public enum GameStatus {
+    IN_PROGRESS,
+    CHECKMATE,
+    STALEMATE,
+    ENDED
+}
@@ -0,0 +1,4 @@
+package com.chess.chess.session;
+
+public record GameView(long id, String fen, GameStatus status, int ply) {
+}
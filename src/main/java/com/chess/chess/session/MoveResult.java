@@ -0,0 +1,4 @@
+package com.chess.chess.session;
+
+public record MoveResult(boolean legal, GameView game) {
+}
@@ -0,0 +1,187 @@
+package com.chess.chess.tablebase;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Color;
+import com.chess.chess.model.PieceType;
+
+import java.util.Arrays;
+
+// A piece set besides the two kings. Pieces are ordered white first, strongest first, which fixes the index layout:
+// side to move, white king, black king, then one 6-bit square per piece.
+public final class Material {
+
+    public static final int MAX_PIECES = 2;
+
+    private static final String LETTERS = "PNBRQ";
+
+    private final Color[] colors;
+    private final PieceType[] types;
+    private final String name;
+
+    private Material(Color[] colors, PieceType[] types) {
+        this.colors = colors;
+        this.types = types;
+        StringBuilder name = new StringBuilder("K");
+        for (Color color : Color.values()) {
+            for (int piece = 0; piece < types.length; piece++) {
+                if (colors[piece] == color) {
+                    name.append(LETTERS.charAt(types[piece].ordinal()));
+                }
+            }
+            if (color == Color.WHITE) {
+                name.append('K');
+            }
+        }
+        this.name = name.toString();
+    }
+
+    public static Material of(String name) {
+        int blackKing = name.indexOf('K', 1);
+        if (!name.startsWith("K") || blackKing < 0) {
+            throw new IllegalArgumentException("Invalid material: " + name);
+        }
+        int count = name.length() - 2;
+        Color[] colors = new Color[count];
+        PieceType[] types = new PieceType[count];
+        for (int i = 1, piece = 0; i < name.length(); i++) {
+            if (i == blackKing) {
+                continue;
+            }
+            int type = LETTERS.indexOf(name.charAt(i));
+            if (type < 0) {
+                throw new IllegalArgumentException("Invalid material: " + name);
+            }
+            colors[piece] = i < blackKing ? Color.WHITE : Color.BLACK;
+            types[piece++] = PieceType.values()[type];
+        }
+        return of(colors, types);
+    }
+
+    // Null entries are skipped, so a captured piece can simply be blanked out.
+    public static Material of(Color[] colors, PieceType[] types) {
+        int[] keys = new int[types.length];
+        int count = 0;
+        for (int piece = 0; piece < types.length; piece++) {
+            if (types[piece] != null) {
+                keys[count++] = colors[piece].ordinal() * PieceType.COUNT + PieceType.KING.ordinal() - types[piece].ordinal();
+            }
+        }
+        if (count > MAX_PIECES) {
+            throw new IllegalArgumentException("At most " + MAX_PIECES + " pieces besides the kings are supported");
+        }
+        Arrays.sort(keys, 0, count);
+        Color[] sortedColors = new Color[count];
+        PieceType[] sortedTypes = new PieceType[count];
+        for (int piece = 0; piece < count; piece++) {
+            sortedColors[piece] = Color.values()[keys[piece] / PieceType.COUNT];
+            sortedTypes[piece] = PieceType.values()[PieceType.KING.ordinal() - keys[piece] % PieceType.COUNT];
+        }
+        return new Material(sortedColors, sortedTypes);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int pieceCount() {
+        return types.length;
+    }
+
+    public Color color(int piece) {
+        return colors[piece];
+    }
+
+    public PieceType type(int piece) {
+        return types[piece];
+    }
+
+    public int size() {
+        return 2 << 6 * (pieceCount() + 2);
+    }
+
+    public Material mirror() {
+        Color[] mirrored = new Color[colors.length];
+        for (int piece = 0; piece < colors.length; piece++) {
+            mirrored[piece] = colors[piece].opposite();
+        }
+        return of(mirrored, types);
+    }
+
+    // Tables are only stored with the stronger side as white; the other orientation is probed through mirror().
+    public boolean isCanonical() {
+        int white = 0;
+        while (white < colors.length && colors[white] == Color.WHITE) {
+            white++;
+        }
+        int black = colors.length - white;
+        if (white != black) {
+            return white > black;
+        }
+        for (int piece = 0; piece < white; piece++) {
+            int difference = types[piece].ordinal() - types[white + piece].ordinal();
+            if (difference != 0) {
+                return difference > 0;
+            }
+        }
+        return true;
+    }
+
+    public Material canonical() {
+        return isCanonical() ? this : mirror();
+    }
+
+    // Maps each given piece to its slot in this material, with colors swapped when probing the mirrored orientation.
+    int[] slots(Color[] pieceColors, PieceType[] pieceTypes, boolean mirrored) {
+        int[] slots = new int[pieceTypes.length];
+        boolean[] used = new boolean[types.length];
+        for (int piece = 0; piece < pieceTypes.length; piece++) {
+            slots[piece] = -1;
+            if (pieceTypes[piece] == null) {
+                continue;
+            }
+            Color color = mirrored ? pieceColors[piece].opposite() : pieceColors[piece];
+            for (int slot = 0; slot < types.length; slot++) {
+                if (!used[slot] && colors[slot] == color && types[slot] == pieceTypes[piece]) {
+                    used[slot] = true;
+                    slots[piece] = slot;
+                    break;
+                }
+            }
+            if (slots[piece] < 0) {
+                throw new IllegalArgumentException("Piece does not belong to " + name);
+            }
+        }
+        return slots;
+    }
+
+    // squares holds the white king, the black king, then the pieces that slots maps into this material.
+    int index(Color sideToMove, int[] squares, int[] slots, boolean mirrored) {
+        int pieces = pieceCount();
+        int flip = mirrored ? Board.SQUARES - Board.SIZE : 0;
+        int side = mirrored ? sideToMove.opposite().ordinal() : sideToMove.ordinal();
+        int index = side << 6 * (pieces + 2) |
+                (squares[mirrored ? 1 : 0] ^ flip) << 6 * (pieces + 1) |
+                (squares[mirrored ? 0 : 1] ^ flip) << 6 * pieces;
+        for (int piece = 0; piece < slots.length; piece++) {
+            if (slots[piece] >= 0) {
+                index |= (squares[piece + 2] ^ flip) << 6 * (pieces - 1 - slots[piece]);
+            }
+        }
+        return index;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Material other && name.equals(other.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,139 @@
+package com.chess.chess.tablebase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// One byte per position, deflated in fixed-size blocks. The header is followed by a table of block offsets so a probe
+// only inflates the block it needs; recently used blocks stay in a small LRU cache.
+public final class TablebaseFile {
+
+    public static final String EXTENSION = ".ctb";
+
+    static final int MAGIC = 0x31425443;
+    static final int VERSION = 1;
+    static final int BLOCK_SHIFT = 12;
+    static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    private static final int NAME_SIZE = 16;
+    private static final int HEADER_SIZE = 4 * Integer.BYTES + NAME_SIZE;
+
+    private final Material material;
+    private final int size;
+    private final int maxPlies;
+    private final ByteBuffer file;
+    private final Map<Integer, byte[]> cache;
+    private final Inflater inflater = new Inflater();
+
+    private TablebaseFile(Material material, int size, int maxPlies, ByteBuffer file, int cachedBlocks) {
+        this.material = material;
+        this.size = size;
+        this.maxPlies = maxPlies;
+        this.file = file;
+        this.cache = new LinkedHashMap<>(cachedBlocks, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, byte[]> eldest) {
+                return size() > cachedBlocks;
+            }
+        };
+    }
+
+    public static TablebaseFile open(Path path, int cachedBlocks) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+            if (file.capacity() < HEADER_SIZE || file.getInt(0) != MAGIC || file.getInt(Integer.BYTES) != VERSION) {
+                throw new IOException("Not a tablebase file: " + path);
+            }
+            byte[] name = new byte[NAME_SIZE];
+            file.get(4 * Integer.BYTES, name);
+            Material material = Material.of(new String(name, StandardCharsets.US_ASCII).trim());
+            return new TablebaseFile(material, file.getInt(2 * Integer.BYTES), file.getInt(3 * Integer.BYTES), file,
+                    cachedBlocks);
+        }
+    }
+
+    static void write(Path path, Material material, byte[] values, int maxPlies) throws IOException {
+        int blockCount = (values.length + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + (blockCount + 1) * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(values.length).putInt(maxPlies);
+        byte[] name = new byte[NAME_SIZE];
+        byte[] letters = material.name().getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(letters, 0, name, 0, letters.length);
+        header.put(name);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        ByteBuffer compressed = ByteBuffer.allocate(BLOCK_SIZE * 2);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long offset = header.capacity();
+            for (int block = 0; block < blockCount; block++) {
+                header.putLong(offset);
+                int first = block << BLOCK_SHIFT;
+                deflater.reset();
+                deflater.setInput(values, first, Math.min(BLOCK_SIZE, values.length - first));
+                deflater.finish();
+                while (!deflater.finished()) {
+                    compressed.clear();
+                    deflater.deflate(compressed);
+                    compressed.flip();
+                    offset += compressed.remaining();
+                    while (compressed.hasRemaining()) {
+                        channel.write(compressed, offset - compressed.remaining());
+                    }
+                }
+            }
+            header.putLong(offset).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public Material material() {
+        return material;
+    }
+
+    public int maxPlies() {
+        return maxPlies;
+    }
+
+    int code(int index) {
+        return block(index >>> BLOCK_SHIFT)[index & (BLOCK_SIZE - 1)] & 0xFF;
+    }
+
+    // Misses inflate under the cache lock so one Inflater can be reused; a miss costs tens of microseconds.
+    private byte[] block(int block) {
+        synchronized (cache) {
+            byte[] values = cache.get(block);
+            if (values == null) {
+                values = inflate(block);
+                cache.put(block, values);
+            }
+            return values;
+        }
+    }
+
+    private byte[] inflate(int block) {
+        long offset = file.getLong(HEADER_SIZE + block * Long.BYTES);
+        long end = file.getLong(HEADER_SIZE + (block + 1) * Long.BYTES);
+        byte[] values = new byte[Math.min(BLOCK_SIZE, size - (block << BLOCK_SHIFT))];
+        inflater.reset();
+        inflater.setInput(file.slice((int) offset, (int) (end - offset)));
+        try {
+            inflater.inflate(values);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt block " + block + " in " + material + " tablebase", e);
+        }
+        return values;
+    }
+}
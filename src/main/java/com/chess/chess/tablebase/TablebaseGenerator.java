@@ -0,0 +1,312 @@
+package com.chess.chess.tablebase;
+
+import com.chess.chess.model.Attacks;
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Color;
+import com.chess.chess.model.PieceType;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Iterative retrograde analysis: pass n resolves every position that is mated or mates in exactly n plies, reading
+// captures and promotions from the smaller tables it depends on. En passant and castling are not represented.
+public final class TablebaseGenerator {
+
+    private static final int POSITIONS_PER_TASK = 1 << 12;
+    private static final int PROMOTIONS = 4;
+    private static final int NOT_PROMOTED = -1;
+
+    private final ForkJoinPool pool;
+    private final Map<Material, Table> tables = new LinkedHashMap<>();
+
+    public TablebaseGenerator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public TablebaseGenerator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public byte[] generate(Material material) {
+        return table(material.canonical()).values();
+    }
+
+    public int maxPlies(Material material) {
+        return table(material.canonical()).maxPlies();
+    }
+
+    // Writes every table generated so far, including the ones pulled in as dependencies.
+    public void write(Path directory) throws IOException {
+        for (Table table : tables.values()) {
+            TablebaseFile.write(directory.resolve(table.material().name() + TablebaseFile.EXTENSION),
+                    table.material(), table.values(), table.maxPlies());
+        }
+    }
+
+    private Table table(Material material) {
+        Table table = tables.get(material);
+        if (table == null) {
+            table = new Job(material).run();
+            tables.put(material, table);
+        }
+        return table;
+    }
+
+    private record Table(Material material, byte[] values, int maxPlies) {
+    }
+
+    // A capture and/or promotion that leaves this table for a smaller one.
+    private record Transition(Material material, byte[] values, boolean mirrored, int[] slots) {
+
+        int code(Color sideToMove, int[] squares) {
+            return values == null ? TablebaseResult.DRAW :
+                    values[material.index(sideToMove, squares, slots, mirrored)] & 0xFF;
+        }
+    }
+
+    private final class Job {
+
+        private final Material material;
+        private final int pieces;
+        private final Color[] colors;
+        private final PieceType[] types;
+        private final int[] identity;
+        private final byte[] values;
+        private final Transition[] transitions;
+        private int maxExternalPlies;
+
+        Job(Material material) {
+            this.material = material;
+            pieces = material.pieceCount();
+            colors = new Color[pieces + 2];
+            types = new PieceType[pieces + 2];
+            colors[0] = Color.WHITE;
+            colors[1] = Color.BLACK;
+            types[0] = PieceType.KING;
+            types[1] = PieceType.KING;
+            identity = new int[pieces];
+            for (int piece = 0; piece < pieces; piece++) {
+                colors[piece + 2] = material.color(piece);
+                types[piece + 2] = material.type(piece);
+                identity[piece] = piece;
+            }
+            values = new byte[material.size()];
+            transitions = new Transition[(pieces + 1) * (pieces + 1) * PROMOTIONS];
+            for (int captured = -1; captured < pieces; captured++) {
+                for (int promoted = -1; promoted < pieces; promoted++) {
+                    if (isTransition(captured, promoted)) {
+                        for (int promotion = 0; promotion < (promoted < 0 ? 1 : PROMOTIONS); promotion++) {
+                            transitions[transitionIndex(captured, promoted, promotion)] =
+                                    transition(captured, promoted, promotion);
+                        }
+                    }
+                }
+            }
+        }
+
+        Table run() {
+            pool.invoke(new Pass(this, 0, 0, values.length));
+            int maxPlies = 0;
+            for (int ply = 1; ply <= TablebaseResult.MAX_PLIES; ply++) {
+                int resolved = pool.invoke(new Pass(this, ply, 0, values.length));
+                if (resolved > 0) {
+                    maxPlies = ply;
+                } else if (ply > maxExternalPlies) {
+                    break;
+                }
+            }
+            return new Table(material, values, maxPlies);
+        }
+
+        private boolean isTransition(int captured, int promoted) {
+            if (captured < 0 && promoted < 0) {
+                return false;
+            }
+            if (promoted >= 0 && (promoted == captured || material.type(promoted) != PieceType.PAWN)) {
+                return false;
+            }
+            return captured < 0 || promoted < 0 || material.color(captured) != material.color(promoted);
+        }
+
+        private int transitionIndex(int captured, int promoted, int promotion) {
+            return ((captured + 1) * (pieces + 1) + promoted + 1) * PROMOTIONS + promotion;
+        }
+
+        private Transition transition(int captured, int promoted, int promotion) {
+            Color[] childColors = new Color[pieces];
+            PieceType[] childTypes = new PieceType[pieces];
+            for (int piece = 0; piece < pieces; piece++) {
+                if (piece != captured) {
+                    childColors[piece] = material.color(piece);
+                    childTypes[piece] = piece == promoted ?
+                            PieceType.values()[PieceType.KNIGHT.ordinal() + promotion] : material.type(piece);
+                }
+            }
+            Material child = Material.of(childColors, childTypes);
+            Material canonical = child.canonical();
+            boolean mirrored = !canonical.equals(child);
+            int[] slots = canonical.slots(childColors, childTypes, mirrored);
+            if (canonical.pieceCount() == 0) {
+                return new Transition(canonical, null, false, slots);
+            }
+            Table table = table(canonical);
+            maxExternalPlies = Math.max(maxExternalPlies, table.maxPlies());
+            return new Transition(canonical, table.values(), mirrored, slots);
+        }
+
+        // Returns the new code of an unresolved position, or DRAW while it stays unresolved.
+        int evaluate(int index, int ply, int[] squares, int[] child) {
+            Color us = Color.values()[index >>> 6 * (pieces + 2)];
+            Color them = us.opposite();
+            long occupied = 0;
+            long ours = 0;
+            for (int slot = 0; slot < pieces + 2; slot++) {
+                int square = index >>> 6 * (pieces + 1 - slot) & 63;
+                squares[slot] = square;
+                if ((occupied & (1L << square)) != 0 ||
+                        types[slot] == PieceType.PAWN && (square < Board.SIZE || square >= Board.SQUARES - Board.SIZE)) {
+                    return TablebaseResult.ILLEGAL;
+                }
+                occupied |= 1L << square;
+                if (colors[slot] == us) {
+                    ours |= 1L << square;
+                }
+            }
+            if (ply == 0 && isAttacked(squares[them.ordinal()], us, squares, -1, occupied)) {
+                return TablebaseResult.ILLEGAL;
+            }
+            int forward = us == Color.WHITE ? Board.SIZE : -Board.SIZE;
+            int startRank = us == Color.WHITE ? 1 : Board.SIZE - 2;
+            boolean legalMove = false;
+            boolean allChildrenWin = true;
+            for (int slot = 0; slot < pieces + 2; slot++) {
+                if (colors[slot] != us) {
+                    continue;
+                }
+                int from = squares[slot];
+                long targets;
+                if (types[slot] == PieceType.PAWN) {
+                    targets = Attacks.pawn(us, from) & occupied & ~ours;
+                    int push = from + forward;
+                    if ((occupied & (1L << push)) == 0) {
+                        targets |= 1L << push;
+                        if (from / Board.SIZE == startRank && (occupied & (1L << (push + forward))) == 0) {
+                            targets |= 1L << (push + forward);
+                        }
+                    }
+                } else {
+                    targets = attacks(types[slot], us, from, occupied) & ~ours;
+                }
+                while (targets != 0) {
+                    int to = Long.numberOfTrailingZeros(targets);
+                    targets &= targets - 1;
+                    int captured = -1;
+                    for (int other = 2; other < pieces + 2; other++) {
+                        if (squares[other] == to) {
+                            captured = other;
+                        }
+                    }
+                    System.arraycopy(squares, 0, child, 0, pieces + 2);
+                    child[slot] = to;
+                    long after = (occupied & ~(1L << from)) | (1L << to);
+                    if (isAttacked(child[us.ordinal()], them, child, captured, after)) {
+                        continue;
+                    }
+                    if (ply == 0) {
+                        return TablebaseResult.DRAW;
+                    }
+                    legalMove = true;
+                    boolean promotes = types[slot] == PieceType.PAWN && (to < Board.SIZE || to >= Board.SQUARES - Board.SIZE);
+                    int promoted = promotes ? slot - 2 : NOT_PROMOTED;
+                    for (int promotion = 0; promotion < (promotes ? PROMOTIONS : 1); promotion++) {
+                        int code = captured < 0 && !promotes ?
+                                values[material.index(them, child, identity, false)] & 0xFF :
+                                transitions[transitionIndex(captured < 0 ? -1 : captured - 2, promoted, promotion)]
+                                        .code(them, child);
+                        int plies = code - TablebaseResult.DECISIVE;
+                        if (plies >= 0 && (plies & 1) == 0) {
+                            if (plies == ply - 1) {
+                                return TablebaseResult.DECISIVE + ply;
+                            }
+                            allChildrenWin = false;
+                        } else if (plies < 0 || plies > ply - 1) {
+                            allChildrenWin = false;
+                        }
+                    }
+                }
+            }
+            if (ply == 0) {
+                return isAttacked(squares[us.ordinal()], them, squares, -1, occupied) ?
+                        TablebaseResult.DECISIVE : TablebaseResult.DRAW;
+            }
+            return legalMove && allChildrenWin ? TablebaseResult.DECISIVE + ply : TablebaseResult.DRAW;
+        }
+
+        private boolean isAttacked(int square, Color attacker, int[] squares, int captured, long occupied) {
+            for (int slot = 0; slot < pieces + 2; slot++) {
+                if (slot != captured && colors[slot] == attacker &&
+                        (attacks(types[slot], attacker, squares[slot], occupied) & (1L << square)) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static long attacks(PieceType type, Color color, int square, long occupied) {
+        return switch (type) {
+            case PAWN -> Attacks.pawn(color, square);
+            case KNIGHT -> Attacks.knight(square);
+            case BISHOP -> Attacks.bishop(square, occupied);
+            case ROOK -> Attacks.rook(square, occupied);
+            case QUEEN -> Attacks.queen(square, occupied);
+            case KING -> Attacks.king(square);
+        };
+    }
+
+    private static final class Pass extends RecursiveTask<Integer> {
+
+        private final Job job;
+        private final int ply;
+        private final int first;
+        private final int last;
+
+        Pass(Job job, int ply, int first, int last) {
+            this.job = job;
+            this.ply = ply;
+            this.first = first;
+            this.last = last;
+        }
+
+        // Positions resolved by this pass carry distance ply, which evaluate() never treats as final, so concurrent
+        // writes to neighbouring entries cannot change the outcome.
+        @Override
+        protected Integer compute() {
+            if (last - first <= POSITIONS_PER_TASK) {
+                int[] squares = new int[job.pieces + 2];
+                int[] child = new int[job.pieces + 2];
+                int resolved = 0;
+                for (int index = first; index < last; index++) {
+                    if (ply > 0 && job.values[index] != TablebaseResult.DRAW) {
+                        continue;
+                    }
+                    int code = job.evaluate(index, ply, squares, child);
+                    if (code != TablebaseResult.DRAW) {
+                        job.values[index] = (byte) code;
+                        resolved++;
+                    }
+                }
+                return resolved;
+            }
+            int middle = (first + last) >>> 1;
+            Pass left = new Pass(job, ply, first, middle);
+            left.fork();
+            int right = new Pass(job, ply, middle, last).compute();
+            return left.join() + right;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.chess.chess.tablebase;
+
+// Results are from the side to move's point of view; distances are in plies.
+public record TablebaseResult(Wdl wdl, int pliesToMate) {
+
+    static final int DRAW = 0;
+    static final int ILLEGAL = 1;
+    static final int DECISIVE = 2;
+    static final int MAX_PLIES = 255 - DECISIVE;
+
+    static TablebaseResult of(int code) {
+        if (code == DRAW) {
+            return new TablebaseResult(Wdl.DRAW, 0);
+        }
+        int plies = code - DECISIVE;
+        return new TablebaseResult((plies & 1) == 0 ? Wdl.LOSS : Wdl.WIN, plies);
+    }
+}
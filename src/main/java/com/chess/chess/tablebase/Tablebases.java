@@ -0,0 +1,76 @@
+package com.chess.chess.tablebase;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Color;
+import com.chess.chess.model.Piece;
+import com.chess.chess.model.PieceType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public final class Tablebases {
+
+    private static final Optional<TablebaseResult> BARE_KINGS = Optional.of(TablebaseResult.of(TablebaseResult.DRAW));
+
+    private final Map<Material, TablebaseFile> files;
+
+    private Tablebases(Map<Material, TablebaseFile> files) {
+        this.files = files;
+    }
+
+    public static Tablebases open(Path directory, int cachedBlocks) throws IOException {
+        Map<Material, TablebaseFile> files = new HashMap<>();
+        try (Stream<Path> paths = Files.list(directory)) {
+            for (Path path : paths.filter(path -> path.toString().endsWith(TablebaseFile.EXTENSION)).toList()) {
+                TablebaseFile file = TablebaseFile.open(path, cachedBlocks);
+                files.put(file.material(), file);
+            }
+        }
+        return new Tablebases(files);
+    }
+
+    public boolean contains(Material material) {
+        return files.containsKey(material.canonical());
+    }
+
+    public Optional<TablebaseResult> probe(Board board) {
+        long kings = board.bitboard(Color.WHITE, PieceType.KING) | board.bitboard(Color.BLACK, PieceType.KING);
+        long others = board.occupancy() & ~kings;
+        int count = Long.bitCount(others);
+        if (Long.bitCount(kings) != 2 || count > Material.MAX_PIECES || board.getCastlingRights() != 0 ||
+                board.getEnPassantSquare() != Board.NO_SQUARE) {
+            return Optional.empty();
+        }
+        if (count == 0) {
+            return BARE_KINGS;
+        }
+        int[] squares = new int[count + 2];
+        squares[0] = Long.numberOfTrailingZeros(board.bitboard(Color.WHITE, PieceType.KING));
+        squares[1] = Long.numberOfTrailingZeros(board.bitboard(Color.BLACK, PieceType.KING));
+        Color[] colors = new Color[count];
+        PieceType[] types = new PieceType[count];
+        for (int piece = 0; others != 0; piece++) {
+            int square = Long.numberOfTrailingZeros(others);
+            others &= others - 1;
+            Piece onSquare = board.pieceAt(square);
+            squares[piece + 2] = square;
+            colors[piece] = onSquare.getColor();
+            types[piece] = onSquare.getType();
+        }
+        Material material = Material.of(colors, types);
+        Material canonical = material.canonical();
+        TablebaseFile file = files.get(canonical);
+        if (file == null) {
+            return Optional.empty();
+        }
+        boolean mirrored = !canonical.equals(material);
+        int index = canonical.index(board.getSideToMove(), squares, canonical.slots(colors, types, mirrored), mirrored);
+        int code = file.code(index);
+        return code == TablebaseResult.ILLEGAL ? Optional.empty() : Optional.of(TablebaseResult.of(code));
+    }
+}
@@ -0,0 +1,7 @@
+package com.chess.chess.tablebase;
+
+public enum Wdl {
+    WIN,
+    DRAW,
+    LOSS
+}
@@ -0,0 +1,68 @@
+package com.chess.chess.web;
+
+import com.chess.chess.session.GameNotFoundException;
+import com.chess.chess.session.GameService;
+import com.chess.chess.session.GameView;
+import com.chess.chess.session.MoveResult;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/games")
+public class GameController {
+
+    private final GameService gameService;
+
+    public GameController(GameService gameService) {
+        this.gameService = gameService;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public GameView create(@RequestBody(required = false) NewGameRequest request) {
+        return request == null || request.fen() == null ? gameService.create() : gameService.create(request.fen());
+    }
+
+    @GetMapping("/{id}")
+    public GameView get(@PathVariable long id) {
+        return gameService.get(id);
+    }
+
+    @PostMapping("/{id}/moves")
+    public ResponseEntity<GameView> move(@PathVariable long id, @RequestBody MoveRequest request) {
+        MoveResult result = gameService.move(id, request.move());
+        return ResponseEntity.status(result.legal() ? HttpStatus.OK : HttpStatus.UNPROCESSABLE_ENTITY).
+                body(result.game());
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable long id) {
+        gameService.delete(id);
+    }
+
+    @ExceptionHandler(GameNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public void gameNotFound() {
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public void invalidRequest() {
+    }
+
+    public record NewGameRequest(String fen) {
+    }
+
+    public record MoveRequest(String move) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.chess.chess.web;
+
+import com.chess.chess.session.GameNotFoundException;
+import com.chess.chess.session.GameService;
+import com.chess.chess.session.MoveResult;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+
+@Component
+public class GameWebSocketHandler extends TextWebSocketHandler {
+
+    private final GameService gameService;
+
+    public GameWebSocketHandler(GameService gameService) {
+        this.gameService = gameService;
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
+        session.sendMessage(new TextMessage(reply(message.getPayload())));
+    }
+
+    String reply(String request) {
+        String[] parts = request.trim().split(" ");
+        if (parts.length != 2) {
+            return "error invalid-request";
+        }
+        try {
+            long id = Long.parseLong(parts[0]);
+            MoveResult result = gameService.move(id, parts[1]);
+            return (result.legal() ? "ok " : "illegal ") + id + " " + result.game().status() + " " +
+                    result.game().fen();
+        } catch (NumberFormatException e) {
+            return "error invalid-request";
+        } catch (GameNotFoundException e) {
+            return "error not-found " + parts[0];
+        }
+    }
+}
@@ -1,13 +1,49 @@
 package com.chess.chess;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 class ChessApplicationTests {
 
+	@Autowired
+	private ConfigurableApplicationContext context;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void engineIsNotBuiltAtStartup() {
+		//given
+		ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+
+		//when
+		boolean transpositionTableBuilt = beanFactory.containsSingleton("transpositionTable");
+		boolean searchBuilt = beanFactory.containsSingleton("lazySmpSearch");
+
+		//then
+		assertThat(transpositionTableBuilt).isFalse();
+		assertThat(searchBuilt).isFalse();
+	}
+
+	@Test
+	void scrapingCacheMetersDoesNotBuildTheEngine() {
+		//given
+		MeterRegistry registry = context.getBean(MeterRegistry.class);
+
+		//when
+		double hitRatio = registry.get("chess.cache.hit.ratio").tag("cache", "transposition").gauge().value();
+
+		//then
+		assertThat(hitRatio).isNaN();
+		assertThat(context.getBeanFactory().containsSingleton("lazySmpSearch")).isFalse();
+	}
+
 }
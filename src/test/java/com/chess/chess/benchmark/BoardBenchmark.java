@@ -0,0 +1,58 @@
+package com.chess.chess.benchmark;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.Piece;
+import com.chess.chess.model.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+
+    private static final Position KNIGHT_HOME = Position.of(7, 1);
+    private static final Position KNIGHT_OUT = Position.of(6, 3);
+
+    private Board board;
+    private Piece knight;
+    private Position[] positions;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        board = Fen.parse(Fen.INITIAL_POSITION);
+        knight = board.pieceAtPosition(KNIGHT_HOME).orElseThrow();
+        positions = new Position[Board.SQUARES];
+        for (int square = 0; square < Board.SQUARES; square++) {
+            positions[square] = Position.of(square);
+        }
+    }
+
+    @Benchmark
+    public Optional<Piece> pieceAtPosition() {
+        next = (next + 1) & (Board.SQUARES - 1);
+        return board.pieceAtPosition(positions[next]);
+    }
+
+    @Benchmark
+    public void moveForthAndBack() {
+        board.move(knight, KNIGHT_OUT);
+        board.move(knight, KNIGHT_HOME);
+    }
+}
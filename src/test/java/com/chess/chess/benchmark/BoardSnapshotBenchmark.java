@@ -0,0 +1,75 @@
+package com.chess.chess.benchmark;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.BoardSnapshot;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.MoveGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Cost of keeping an immutable copy of every position in a game: snapshots against defensive Board copies.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardSnapshotBenchmark {
+
+    private static final int PLIES = 200;
+
+    private Board start;
+    private int[] game;
+
+    @Setup
+    public void setUp() {
+        start = Fen.parse(Fen.INITIAL_POSITION);
+        Board board = new Board(start);
+        SplittableRandom random = new SplittableRandom(3);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int played = 0;
+        int[] plies = new int[PLIES];
+        while (played < PLIES) {
+            int count = MoveGenerator.generateLegal(board, moves);
+            if (count == 0) {
+                break;
+            }
+            plies[played] = moves[random.nextInt(count)];
+            board.makeMove(plies[played++]);
+        }
+        game = Arrays.copyOf(plies, played);
+    }
+
+    @Benchmark
+    public BoardSnapshot snapshotHistory() {
+        BoardSnapshot snapshot = BoardSnapshot.of(start);
+        for (int move : game) {
+            snapshot = snapshot.play(move);
+        }
+        return snapshot;
+    }
+
+    @Benchmark
+    public Board[] copiedBoardHistory() {
+        Board[] history = new Board[game.length + 1];
+        Board board = new Board(start);
+        history[0] = new Board(board);
+        for (int i = 0; i < game.length; i++) {
+            board.makeMove(game[i]);
+            history[i + 1] = new Board(board);
+        }
+        return history;
+    }
+}
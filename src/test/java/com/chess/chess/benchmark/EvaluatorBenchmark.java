@@ -0,0 +1,117 @@
+package com.chess.chess.benchmark;
+
+import com.chess.chess.engine.Evaluator;
+import com.chess.chess.engine.PawnHashTable;
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.MoveGenerator;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EvaluatorBenchmark {
+
+    private static final String[] POSITIONS = {
+            Fen.INITIAL_POSITION,
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "r1bqkb1r/pppp1ppp/2n2n2/4p3/2B1P3/5N2/PPPP1PPP/RNBQK2R w KQkq - 4 4"
+    };
+
+    // "none" evaluates pawn structure every time; the others go through a 256 KB pawn hash table.
+    @Param({"none", "ALWAYS", "TWO_TIER"})
+    public String pawnCache;
+
+    private Board[] boards;
+    private PawnHashTable pawnHashTable;
+    private final int[][] moves = new int[3][MoveGenerator.MAX_MOVES];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        boards = new Board[POSITIONS.length];
+        for (int i = 0; i < POSITIONS.length; i++) {
+            boards[i] = Fen.parse(POSITIONS[i]);
+        }
+        pawnHashTable = pawnCache.equals("none") ? null :
+                new PawnHashTable(256, PawnHashTable.Replacement.valueOf(pawnCache));
+    }
+
+    // Evaluates every node of a depth-3 tree, where siblings mostly share their pawn structure as they do in search.
+    // The pawn hash hits and misses of each tree are reported as secondary results.
+    @Benchmark
+    public int evaluateTree(PawnHashCounters counters) {
+        next = (next + 1) & (POSITIONS.length - 1);
+        int sum = evaluateTree(boards[next], 3);
+        if (pawnHashTable != null) {
+            counters.record(pawnHashTable.statistics());
+        }
+        return sum;
+    }
+
+    private int evaluate(Board board) {
+        return pawnHashTable == null ? Evaluator.evaluate(board) : Evaluator.evaluate(board, pawnHashTable);
+    }
+
+    private int evaluateTree(Board board, int depth) {
+        int sum = evaluate(board);
+        if (depth == 0) {
+            return sum;
+        }
+        int[] plyMoves = moves[depth - 1];
+        int count = MoveGenerator.generateLegal(board, plyMoves);
+        for (int i = 0; i < count; i++) {
+            board.makeMove(plyMoves[i]);
+            sum += evaluateTree(board, depth - 1);
+            board.unmakeMove();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int evaluate() {
+        next = (next + 1) & (POSITIONS.length - 1);
+        return evaluate(boards[next]);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PawnHashCounters {
+
+        public long pawnHashHits;
+        public long pawnHashMisses;
+        private long seenHits;
+        private long seenMisses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            pawnHashHits = 0;
+            pawnHashMisses = 0;
+        }
+
+        void record(PawnHashTable.Statistics statistics) {
+            pawnHashHits += statistics.hits() - seenHits;
+            pawnHashMisses += statistics.misses() - seenMisses;
+            seenHits = statistics.hits();
+            seenMisses = statistics.misses();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.chess.chess.benchmark;
+
+import com.chess.chess.journal.GameJournal;
+import com.chess.chess.model.Board;
+import com.chess.chess.model.BoardSnapshot;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.MoveGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Write rate of the move log, committing after every move or once per batch of moves from different games (what
+// concurrent sessions get from group commit), and the time to recover a journal of 1000 games of 100 moves either
+// from the log alone or from a checkpoint taken halfway through.
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameJournalBenchmark {
+
+    private static final int BATCH = 1024;
+    private static final int GAMES = 1000;
+    private static final int MOVES_PER_GAME = 100;
+
+    @State(Scope.Benchmark)
+    public static class Writer {
+
+        @Param({"1", "32", "1024"})
+        public int movesPerCommit;
+
+        Path directory;
+        GameJournal journal;
+        int[] moves;
+        long nextGame;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("journal-benchmark");
+            journal = GameJournal.open(directory);
+            moves = randomGame(new SplittableRandom(1));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            journal.close();
+            delete(directory);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Recovering {
+
+        @Param({"false", "true"})
+        public boolean checkpointed;
+
+        Path directory;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("journal-benchmark");
+            SplittableRandom random = new SplittableRandom(2);
+            List<int[]> games = new ArrayList<>();
+            for (int game = 0; game < GAMES; game++) {
+                games.add(randomGame(random));
+            }
+            try (GameJournal journal = GameJournal.open(directory)) {
+                Board[] boards = new Board[GAMES];
+                long[] positions = new long[GAMES];
+                for (int game = 0; game < GAMES; game++) {
+                    boards[game] = Fen.parse(Fen.INITIAL_POSITION);
+                    positions[game] = journal.created(game + 1, boards[game]);
+                }
+                for (int ply = 0; ply < MOVES_PER_GAME; ply++) {
+                    if (checkpointed && ply == MOVES_PER_GAME / 2) {
+                        journal.checkpoint(() -> {
+                            List<GameJournal.GameState> states = new ArrayList<>();
+                            for (int game = 0; game < GAMES; game++) {
+                                states.add(new GameJournal.GameState(game + 1, BoardSnapshot.of(boards[game]),
+                                        positions[game], MOVES_PER_GAME / 2));
+                            }
+                            return new GameJournal.Checkpoint(GAMES, states);
+                        });
+                    }
+                    for (int game = 0; game < GAMES; game++) {
+                        int[] moves = games.get(game);
+                        if (ply < moves.length) {
+                            boards[game].makeMove(moves[ply]);
+                            positions[game] = journal.moved(game + 1, moves[ply]);
+                        }
+                    }
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            delete(directory);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(BATCH)
+    public long append(Writer writer) {
+        GameJournal journal = writer.journal;
+        long position = 0;
+        for (int i = 0; i < BATCH; i++) {
+            position = journal.moved(writer.nextGame++, writer.moves[i % writer.moves.length]);
+            if ((i + 1) % writer.movesPerCommit == 0) {
+                journal.awaitDurable(position);
+            }
+        }
+        return position;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    public GameJournal.Recovery recover(Recovering recovering) throws IOException {
+        try (GameJournal journal = GameJournal.open(recovering.directory)) {
+            return journal.recover();
+        }
+    }
+
+    private static int[] randomGame(SplittableRandom random) {
+        Board board = Fen.parse(Fen.INITIAL_POSITION);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int[] game = new int[MOVES_PER_GAME];
+        int played = 0;
+        while (played < MOVES_PER_GAME) {
+            int count = MoveGenerator.generateLegal(board, moves);
+            if (count == 0) {
+                break;
+            }
+            game[played] = moves[random.nextInt(count)];
+            board.makeMove(game[played++]);
+        }
+        return Arrays.copyOf(game, played);
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.chess.chess.benchmark;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.GameReplay;
+import com.chess.chess.model.MoveGenerator;
+import com.chess.chess.model.ReplayResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameReplayBenchmark {
+
+    private static final int GAMES = 2_000;
+    private static final int PLIES = 80;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private Board start;
+    private int[] moves;
+    private int[] gameOffsets;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        start = Fen.parse(Fen.INITIAL_POSITION);
+        pool = new ForkJoinPool(parallelism);
+        gameOffsets = new int[GAMES + 1];
+        int[] games = new int[GAMES * PLIES];
+        int[] legalMoves = new int[MoveGenerator.MAX_MOVES];
+        SplittableRandom random = new SplittableRandom(42);
+        Board board = new Board(start);
+        int count = 0;
+        for (int game = 0; game < GAMES; game++) {
+            int plies = 0;
+            int legal;
+            while (plies < PLIES && (legal = MoveGenerator.generateLegal(board, legalMoves)) > 0) {
+                int move = legalMoves[random.nextInt(legal)];
+                board.makeMove(move);
+                games[count++] = move;
+                plies++;
+            }
+            for (int i = 0; i < plies; i++) {
+                board.unmakeMove();
+            }
+            gameOffsets[game + 1] = count;
+        }
+        moves = Arrays.copyOf(games, count);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public ReplayResult replayArchive() {
+        return GameReplay.replay(start, moves, gameOffsets, pool);
+    }
+}
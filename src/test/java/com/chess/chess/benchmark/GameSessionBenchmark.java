@@ -0,0 +1,78 @@
+package com.chess.chess.benchmark;
+
+import com.chess.chess.session.GameService;
+import com.chess.chess.session.MoveResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class GameSessionBenchmark {
+
+    private static final String[] KNIGHT_SHUFFLE = {"g1f3", "g8f6", "f3g1", "f6g8"};
+
+    @State(Scope.Benchmark)
+    public static class Sessions {
+
+        @Param({"10000"})
+        public int sessions;
+
+        GameService gameService;
+        long[] ids;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            gameService = new GameService(64);
+            ids = new long[sessions];
+            for (int i = 0; i < sessions; i++) {
+                ids[i] = gameService.create().id();
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Player {
+
+        int[] plies;
+        int threadIndex;
+        int threadCount;
+        int next;
+
+        @Setup(Level.Iteration)
+        public void setUp(Sessions sessions, ThreadParams threadParams) {
+            plies = new int[sessions.sessions];
+            threadIndex = threadParams.getThreadIndex();
+            threadCount = threadParams.getThreadCount();
+            next = threadIndex;
+        }
+    }
+
+    @Benchmark
+    public MoveResult move(Sessions sessions, Player player) {
+        int session = player.next;
+        player.next += player.threadCount;
+        if (player.next >= sessions.sessions) {
+            player.next = player.threadIndex;
+        }
+        String move = KNIGHT_SHUFFLE[player.plies[session]++ & (KNIGHT_SHUFFLE.length - 1)];
+        return sessions.gameService.move(sessions.ids[session], move);
+    }
+}
@@ -0,0 +1,81 @@
+package com.chess.chess.benchmark;
+
+import com.chess.chess.engine.LazySmpSearch;
+import com.chess.chess.engine.SearchResult;
+import com.chess.chess.engine.TranspositionTable;
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Fen;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LazySmpBenchmark {
+
+    private static final String MIDDLEGAME =
+            "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10";
+
+    // 0 uses every available processor, as chess.engine.threads does; other counts can be given with -p threads=.
+    @Param({"1", "2", "4", "8", "0"})
+    public int threads;
+
+    @Param({"7"})
+    public int depth;
+
+    private LazySmpSearch search;
+    private Board board;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Nodes {
+        public long nodes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            nodes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        search = new LazySmpSearch(new TranspositionTable(64),
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+        board = Fen.parse(MIDDLEGAME);
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        search.getTranspositionTable().clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        search.close();
+    }
+
+    @Benchmark
+    public SearchResult timeToDepth(Nodes counter) {
+        SearchResult result = search.search(board, Duration.ofMinutes(1), depth);
+        counter.nodes += result.nodes();
+        return result;
+    }
+}
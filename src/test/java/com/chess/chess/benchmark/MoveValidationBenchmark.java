@@ -0,0 +1,103 @@
+package com.chess.chess.benchmark;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Color;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.MoveStatus;
+import com.chess.chess.model.Piece;
+import com.chess.chess.model.PieceType;
+import com.chess.chess.model.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoveValidationBenchmark {
+
+    private static final String POSITION = "r3k2r/pppq1ppp/2n2n2/3pp3/3PP3/2N2N2/PPPQ1PPP/R3K2R w KQkq - 0 1";
+    private static final int ATTEMPTS = 1024;
+
+    private Board board;
+    private Piece[] pieces;
+    private Position[] targets;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        board = Fen.parse(POSITION);
+        List<Piece> whitePieces = new ArrayList<>();
+        for (int square = 0; square < Board.SQUARES; square++) {
+            Piece piece = board.pieceAt(square);
+            if (piece != null && piece.getColor() == Color.WHITE && piece.getType() != PieceType.PAWN) {
+                whitePieces.add(piece);
+            }
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        pieces = new Piece[ATTEMPTS];
+        targets = new Position[ATTEMPTS];
+        for (int i = 0; i < ATTEMPTS; i++) {
+            pieces[i] = whitePieces.get(random.nextInt(whitePieces.size()));
+            targets[i] = randomTarget(random);
+        }
+    }
+
+    @Benchmark
+    public int exceptions() {
+        int i = next();
+        Position from = pieceSquare(pieces[i]);
+        try {
+            board.move(pieces[i], targets[i]);
+        } catch (RuntimeException e) {
+            return 0;
+        }
+        board.move(pieces[i], from);
+        return 1;
+    }
+
+    @Benchmark
+    public int statusCodes() {
+        int i = next();
+        Position from = pieceSquare(pieces[i]);
+        if (board.tryMove(pieces[i], targets[i]) != MoveStatus.LEGAL) {
+            return 0;
+        }
+        board.tryMove(pieces[i], from);
+        return 1;
+    }
+
+    private Position randomTarget(SplittableRandom random) {
+        while (true) {
+            Position target = new Position(random.nextInt(Board.SIZE + 2), random.nextInt(Board.SIZE + 2));
+            if (!target.isOnBoard() || board.pieceAtPosition(target).isEmpty() ||
+                    board.pieceAtPosition(target).get().getColor() == Color.WHITE) {
+                return target;
+            }
+        }
+    }
+
+    private int next() {
+        next = (next + 1) & (ATTEMPTS - 1);
+        return next;
+    }
+
+    private static Position pieceSquare(Piece piece) {
+        return Position.of(piece.getSquare());
+    }
+}
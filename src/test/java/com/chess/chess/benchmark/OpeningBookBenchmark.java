@@ -0,0 +1,93 @@
+package com.chess.chess.benchmark;
+
+import com.chess.chess.book.OpeningBook;
+import com.chess.chess.book.OpeningBookBuilder;
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.MoveGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OpeningBookBenchmark {
+
+    private static final int GAMES = 20_000;
+    private static final int PLIES = 16;
+    private static final int LOOKUPS = 1 << 12;
+
+    private Path path;
+    private OpeningBook book;
+    private Board[] positions;
+    private SplittableRandom random;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        path = Files.createTempFile("opening-book", ".bin");
+        OpeningBookBuilder builder = new OpeningBookBuilder(PLIES);
+        positions = new Board[LOOKUPS];
+        random = new SplittableRandom(3);
+        int[] legalMoves = new int[MoveGenerator.MAX_MOVES];
+        int[] game = new int[PLIES];
+        Board start = Fen.parse(Fen.INITIAL_POSITION);
+        for (int gameId = 0; gameId < GAMES; gameId++) {
+            Board board = new Board(start);
+            int plies = 0;
+            while (plies < PLIES) {
+                int legal = MoveGenerator.generateLegal(board, legalMoves);
+                if (legal == 0) {
+                    break;
+                }
+                if (gameId < LOOKUPS && plies == gameId % PLIES) {
+                    positions[gameId] = new Board(board);
+                }
+                game[plies] = legalMoves[random.nextInt(legal)];
+                board.makeMove(game[plies++]);
+            }
+            if (gameId < LOOKUPS && positions[gameId] == null) {
+                positions[gameId] = board;
+            }
+            builder.addGame(start, Arrays.copyOf(game, plies), 1 + random.nextInt(10));
+        }
+        builder.write(path);
+        book = OpeningBook.open(path);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(path);
+    }
+
+    @Benchmark
+    public long totalWeight() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return book.totalWeight(positions[next].getHash());
+    }
+
+    @Benchmark
+    public int selectMove() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return book.selectMove(positions[next], random);
+    }
+}
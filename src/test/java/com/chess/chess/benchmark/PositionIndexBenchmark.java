@@ -0,0 +1,85 @@
+package com.chess.chess.benchmark;
+
+import com.chess.chess.index.PositionIndex;
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.MoveGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PositionIndexBenchmark {
+
+    private static final int GAMES = 20_000;
+    private static final int PLIES = 60;
+    private static final int LOOKUPS = 1 << 12;
+
+    private Path directory;
+    private PositionIndex index;
+    private long[] hashes;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("position-index");
+        index = new PositionIndex(directory, 1 << 18, 4);
+        hashes = new long[LOOKUPS];
+        SplittableRandom random = new SplittableRandom(3);
+        int[] legalMoves = new int[MoveGenerator.MAX_MOVES];
+        Board start = Fen.parse(Fen.INITIAL_POSITION);
+        for (int gameId = 0; gameId < GAMES; gameId++) {
+            Board board = new Board(start);
+            for (int ply = 0; ply < PLIES; ply++) {
+                int legal = MoveGenerator.generateLegal(board, legalMoves);
+                if (legal == 0) {
+                    break;
+                }
+                board.makeMove(legalMoves[random.nextInt(legal)]);
+                index.add(gameId, board.getHash());
+                if (gameId < LOOKUPS && ply == gameId % PLIES) {
+                    hashes[gameId] = board.getHash();
+                }
+            }
+        }
+        index.flush();
+        index.awaitMerges();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        index.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public int[] find() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return index.find(hashes[next]);
+    }
+}
@@ -0,0 +1,83 @@
+package com.chess.chess.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Time from launching a new JVM until the application has played its first legal move (FirstMoveProbe), with and
+// without the AppCDS archive and the fast-startup profile. Needs the plain jar and archive from the appcds profile:
+//   ./mvnw -Pappcds,benchmark verify -Djmh.includes=StartupBenchmark
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    private static final String PROBE_MESSAGE = "First legal move played";
+
+    @Param({"false", "true"})
+    public boolean archive;
+
+    @Param({"default", "fast-startup"})
+    public String profile;
+
+    private List<String> command;
+    private Process process;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Path target = Path.of(System.getProperty("startup.target", "target"));
+        Path jar = target.resolve("chess-0.0.1-SNAPSHOT.jar");
+        Path sharedArchive = target.resolve("chess.jsa");
+        if (!Files.exists(jar) || !Files.exists(sharedArchive)) {
+            throw new IllegalStateException("Build " + jar + " and " + sharedArchive + " with -Pappcds first");
+        }
+        command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add(archive ? "-XX:SharedArchiveFile=" + sharedArchive : "-Xshare:auto");
+        command.addAll(List.of("-jar", jar.toString(), "--chess.startup.first-move-probe=true", "--server.port=0",
+                "--spring.profiles.active=" + profile));
+    }
+
+    @Benchmark
+    public String firstLegalMove() throws IOException {
+        process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                StandardCharsets.UTF_8));
+        for (String line = output.readLine(); line != null; line = output.readLine()) {
+            if (line.contains(PROBE_MESSAGE)) {
+                return line;
+            }
+        }
+        throw new IllegalStateException("The application exited without playing a move");
+    }
+
+    @TearDown(Level.Invocation)
+    public void awaitExit() throws IOException, InterruptedException {
+        process.getInputStream().transferTo(OutputStream.nullOutputStream());
+        process.waitFor();
+    }
+}
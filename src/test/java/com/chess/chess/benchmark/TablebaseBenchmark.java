@@ -0,0 +1,117 @@
+package com.chess.chess.benchmark;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Fen;
+import com.chess.chess.tablebase.Material;
+import com.chess.chess.tablebase.TablebaseGenerator;
+import com.chess.chess.tablebase.TablebaseResult;
+import com.chess.chess.tablebase.Tablebases;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TablebaseBenchmark {
+
+    private static final int LOOKUPS = 1 << 12;
+
+    @Param({"4", "256"})
+    public int cachedBlocks;
+
+    private Path directory;
+    private Tablebases tablebases;
+    private Board[] positions;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("tablebases");
+        TablebaseGenerator generator = new TablebaseGenerator();
+        generator.generate(Material.of("KQK"));
+        generator.write(directory);
+        tablebases = Tablebases.open(directory, cachedBlocks);
+        SplittableRandom random = new SplittableRandom(5);
+        List<Board> boards = new ArrayList<>();
+        while (boards.size() < LOOKUPS) {
+            Board board = Fen.parse(randomFen(random));
+            if (tablebases.probe(board).isPresent()) {
+                boards.add(board);
+            }
+        }
+        positions = boards.toArray(Board[]::new);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<TablebaseResult> probe() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return tablebases.probe(positions[next]);
+    }
+
+    private static String randomFen(SplittableRandom random) {
+        char[] squares = new char[64];
+        Arrays.fill(squares, '.');
+        for (char piece : new char[]{'K', 'k', 'Q'}) {
+            int square;
+            do {
+                square = random.nextInt(64);
+            } while (squares[square] != '.');
+            squares[square] = piece;
+        }
+        StringBuilder fen = new StringBuilder();
+        for (int y = 7; y >= 0; y--) {
+            int empty = 0;
+            for (int x = 0; x < 8; x++) {
+                char piece = squares[y * 8 + x];
+                if (piece == '.') {
+                    empty++;
+                    continue;
+                }
+                if (empty > 0) {
+                    fen.append(empty);
+                    empty = 0;
+                }
+                fen.append(piece);
+            }
+            if (empty > 0) {
+                fen.append(empty);
+            }
+            fen.append(y > 0 ? "/" : "");
+        }
+        return fen.append(random.nextBoolean() ? " w - - 0 1" : " b - - 0 1").toString();
+    }
+}
@@ -0,0 +1,89 @@
+package com.chess.chess.book;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.Move;
+import com.chess.chess.model.San;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OpeningBookTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void selectsBookMovesInProportionToTheirWeights() throws Exception {
+        //given
+        Board start = Fen.parse(Fen.INITIAL_POSITION);
+        OpeningBookBuilder builder = new OpeningBookBuilder(4);
+        builder.addGame(start, moves(start, "e4", "e5", "Nf3", "Nc6", "Bb5"), 3);
+        builder.addGame(start, moves(start, "d4", "d5"), 1);
+        Path path = directory.resolve("book.bin");
+        long records = builder.write(path);
+
+        //when
+        OpeningBook book = OpeningBook.open(path);
+        Map<String, Integer> picks = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(5);
+        for (int i = 0; i < 4_000; i++) {
+            picks.merge(Move.toUci(book.selectMove(start, random)), 1, Integer::sum);
+        }
+
+        //then
+        assertThat(records).isEqualTo(6);
+        assertThat(book.size()).isEqualTo(records);
+        assertThat(book.moveCount(start.getHash())).isEqualTo(2);
+        assertThat(book.totalWeight(start.getHash())).isEqualTo(4);
+        assertThat(book.bestMove(start)).isEqualTo(moves(start, "e4")[0]);
+        assertThat(picks.keySet()).containsExactlyInAnyOrder("e2e4", "d2d4");
+        assertThat(picks.get("e2e4")).isBetween(2_800, 3_200);
+    }
+
+    @Test
+    public void positionsOutsideTheBookHaveNoMove() throws Exception {
+        //given
+        Board start = Fen.parse(Fen.INITIAL_POSITION);
+        OpeningBookBuilder builder = new OpeningBookBuilder(2);
+        builder.addGame(start, moves(start, "e4", "e5", "Nf3"), 1);
+        Path path = directory.resolve("book.bin");
+        builder.write(path);
+        Board outOfBook = Fen.parse("4k3/8/8/8/8/8/8/4K3 w - - 0 1");
+
+        //when
+        OpeningBook book = OpeningBook.open(path);
+
+        //then
+        assertThat(book.selectMove(outOfBook, new SplittableRandom(1))).isEqualTo(Move.NONE);
+        assertThat(book.contains(outOfBook.getHash())).isFalse();
+        assertThat(OpeningBook.empty().selectMove(start, new SplittableRandom(1))).isEqualTo(Move.NONE);
+    }
+
+    @Test
+    public void rejectsFilesThatAreNotWholeRecords() throws Exception {
+        Path path = Files.write(directory.resolve("notes.txt"), "not a book".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> OpeningBook.open(path)).isInstanceOf(IOException.class);
+    }
+
+    private static int[] moves(Board start, String... sanMoves) {
+        Board board = new Board(start);
+        int[] moves = new int[sanMoves.length];
+        for (int i = 0; i < sanMoves.length; i++) {
+            moves[i] = San.parse(board, sanMoves[i]);
+            board.makeMove(moves[i]);
+        }
+        return moves;
+    }
+}
@@ -0,0 +1,131 @@
+package com.chess.chess.engine;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.MoveGenerator;
+import com.chess.chess.model.Piece;
+import com.chess.chess.model.PieceSquareTables;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EvaluatorTest {
+
+    @Test
+    public void initialPositionIsBalanced() {
+        //given
+        Board board = Fen.parse(Fen.INITIAL_POSITION);
+
+        //when
+        int score = Evaluator.evaluate(board);
+
+        //then
+        assertThat(score).isZero();
+        assertThat(board.getPhase()).isEqualTo(PieceSquareTables.MAX_PHASE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "r1bqkb1r/pppp1ppp/2n2n2/4p3/2B1P3/5N2/PPPP1PPP/RNBQK2R w - - 4 4",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R b - - 0 1"
+    })
+    public void mirroredPositionsEvaluateTheSameForTheSideToMove(String fen) {
+        //given
+        Board board = Fen.parse(fen);
+        Board mirrored = Fen.parse(mirror(fen));
+
+        //when
+        int score = Evaluator.evaluate(board);
+        int mirroredScore = Evaluator.evaluate(mirrored);
+
+        //then
+        assertThat(mirroredScore).isEqualTo(score);
+    }
+
+    @Test
+    public void accumulatorFollowsMovesAndTheirUndo() {
+        //given
+        Board board = Fen.parse("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        int initialScore = board.getPieceSquareScore();
+        SplittableRandom random = new SplittableRandom(7);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int played = 0;
+
+        //when
+        for (int ply = 0; ply < 200; ply++) {
+            int count = MoveGenerator.generateLegal(board, moves);
+            if (count == 0) {
+                break;
+            }
+            board.makeMove(moves[random.nextInt(count)]);
+            played++;
+
+            //then
+            assertThat(board.getPieceSquareScore()).isEqualTo(fromScratch(board));
+        }
+        for (int i = 0; i < played; i++) {
+            board.unmakeMove();
+        }
+        assertThat(board.getPieceSquareScore()).isEqualTo(initialScore);
+    }
+
+    @Test
+    public void doubledAndIsolatedPawnsArePenalised() {
+        //given
+        Board healthy = Fen.parse("4k3/8/8/8/8/8/PP6/4K3 w - - 0 1");
+        Board weak = Fen.parse("4k3/8/8/8/8/P7/P7/4K3 w - - 0 1");
+
+        //when
+        int healthyScore = Evaluator.evaluate(healthy);
+        int weakScore = Evaluator.evaluate(weak);
+
+        //then
+        assertThat(weakScore).isLessThan(healthyScore);
+    }
+
+    @Test
+    public void passedPawnsAreWorthMoreAsTheyAdvance() {
+        //given
+        Board advanced = Fen.parse("4k3/8/3P4/8/8/8/8/4K3 w - - 0 1");
+        Board behind = Fen.parse("4k3/8/8/8/8/8/3P4/4K3 w - - 0 1");
+
+        //when
+        int advancedScore = Evaluator.evaluate(advanced);
+        int behindScore = Evaluator.evaluate(behind);
+
+        //then
+        assertThat(advancedScore).isGreaterThan(behindScore + 100);
+    }
+
+    private static int fromScratch(Board board) {
+        int score = 0;
+        for (int square = 0; square < Board.SQUARES; square++) {
+            Piece piece = board.pieceAt(square);
+            if (piece != null) {
+                score += PieceSquareTables.score(piece.getColor(), piece.getType(), square);
+            }
+        }
+        return score;
+    }
+
+    private static String mirror(String fen) {
+        String[] fields = fen.split(" ");
+        String[] ranks = fields[0].split("/");
+        StringBuilder placement = new StringBuilder();
+        for (int i = ranks.length - 1; i >= 0; i--) {
+            for (char c : ranks[i].toCharArray()) {
+                placement.append(Character.isUpperCase(c) ? Character.toLowerCase(c) : Character.toUpperCase(c));
+            }
+            if (i > 0) {
+                placement.append('/');
+            }
+        }
+        String side = fields[1].equals("w") ? "b" : "w";
+        return placement + " " + side + " - - " + fields[4] + " " + fields[5];
+    }
+}
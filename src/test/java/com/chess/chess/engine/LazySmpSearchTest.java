@@ -0,0 +1,45 @@
+package com.chess.chess.engine;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.Move;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LazySmpSearchTest {
+
+    @Test
+    public void workersAgreeOnForcedMateWithoutTouchingTheCallersBoard() {
+        //given
+        Board board = Fen.parse("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        long hash = board.getHash();
+
+        try (LazySmpSearch search = new LazySmpSearch(new TranspositionTable(4), 3)) {
+            //when
+            SearchResult result = search.search(board, Duration.ofSeconds(5), 4);
+
+            //then
+            assertThat(Move.toUci(result.bestMove())).isEqualTo("a1a8");
+            assertThat(result.score()).isEqualTo(Search.MATE - 1);
+            assertThat(board.getHash()).isEqualTo(hash);
+        }
+    }
+
+    @Test
+    public void stopsAllWorkersAtTheDeadline() {
+        //given
+        Board board = Fen.parse(Fen.INITIAL_POSITION);
+
+        try (LazySmpSearch search = new LazySmpSearch(new TranspositionTable(4), 2)) {
+            //when
+            SearchResult result = search.search(board, Duration.ofMillis(200));
+
+            //then
+            assertThat(result.bestMove()).isNotEqualTo(Move.NONE);
+            assertThat(result.elapsedMillis()).isLessThan(1_000);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.chess.chess.engine;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.MoveGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PawnHashTableTest {
+
+    @Test
+    public void storedScoreIsReturnedByProbe() {
+        //given
+        PawnHashTable table = new PawnHashTable(1);
+        long key = 0x1234_5678_9ABC_DEF0L;
+
+        //when
+        table.store(key, -1234);
+
+        //then
+        assertThat(table.probe(key)).isEqualTo(-1234);
+        assertThat(table.probe(key + 1)).isEqualTo(PawnHashTable.MISS);
+        assertThat(table.statistics().hits()).isEqualTo(1);
+        assertThat(table.statistics().misses()).isEqualTo(1);
+        assertThat(table.statistics().hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void twoTierKeepsEntriesThatWereHitWhileAlwaysReplaceLosesThem() {
+        //given
+        PawnHashTable twoTier = new PawnHashTable(1, PawnHashTable.Replacement.TWO_TIER);
+        PawnHashTable always = new PawnHashTable(1, PawnHashTable.Replacement.ALWAYS);
+        long reused = 1L << 40;
+        for (PawnHashTable table : new PawnHashTable[]{twoTier, always}) {
+            table.store(reused, 42);
+            table.probe(reused);
+        }
+
+        //when
+        for (long key = 2; key < 10; key++) {
+            long colliding = key << 40;
+            twoTier.store(colliding, 7);
+            always.store(colliding, 7);
+        }
+
+        //then
+        assertThat(twoTier.probe(reused)).isEqualTo(42);
+        assertThat(always.probe(reused)).isEqualTo(PawnHashTable.MISS);
+        assertThat(twoTier.statistics().replacements()).isEqualTo(7);
+    }
+
+    @Test
+    public void cachedEvaluationMatchesTheUncachedOne() {
+        //given
+        Board board = Fen.parse("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        PawnHashTable table = new PawnHashTable(16);
+        SplittableRandom random = new SplittableRandom(3);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+        for (int ply = 0; ply < 200; ply++) {
+            int count = MoveGenerator.generateLegal(board, moves);
+            if (count == 0) {
+                break;
+            }
+            //when
+            int cached = Evaluator.evaluate(board, table);
+            int cachedAgain = Evaluator.evaluate(board, table);
+
+            //then
+            assertThat(cached).isEqualTo(Evaluator.evaluate(board));
+            assertThat(cachedAgain).isEqualTo(cached);
+            board.makeMove(moves[random.nextInt(count)]);
+        }
+        assertThat(table.statistics().hits()).isGreaterThanOrEqualTo(table.statistics().misses());
+    }
+}
@@ -0,0 +1,70 @@
+package com.chess.chess.engine;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.Move;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SearchTest {
+
+    private final Search search = new Search();
+
+    @Test
+    public void findsBackRankMate() {
+        //given
+        Board board = Fen.parse("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+
+        //when
+        SearchResult result = search.search(board, Duration.ofSeconds(5), 4);
+
+        //then
+        assertThat(Move.toUci(result.bestMove())).isEqualTo("a1a8");
+        assertThat(result.score()).isEqualTo(Search.MATE - 1);
+    }
+
+    @Test
+    public void capturesHangingQueen() {
+        //given
+        Board board = Fen.parse("4k3/8/8/3q4/8/8/3R4/4K3 w - - 0 1");
+
+        //when
+        SearchResult result = search.search(board, Duration.ofSeconds(5), 3);
+
+        //then
+        assertThat(Move.toUci(result.bestMove())).isEqualTo("d2d5");
+    }
+
+    @Test
+    public void returnsBestMoveOfLastCompletedIterationWhenTimeRunsOut() {
+        //given
+        Board board = Fen.parse(Fen.INITIAL_POSITION);
+        long hash = board.getHash();
+
+        //when
+        SearchResult result = search.search(board, Duration.ofMillis(200));
+
+        //then
+        assertThat(result.bestMove()).isNotEqualTo(Move.NONE);
+        assertThat(result.depth()).isPositive();
+        assertThat(result.elapsedMillis()).isLessThan(1_000);
+        assertThat(board.getHash()).isEqualTo(hash);
+        assertThat(board.getPly()).isZero();
+    }
+
+    @Test
+    public void reportsStalemateAsDraw() {
+        //given
+        Board board = Fen.parse("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1");
+
+        //when
+        SearchResult result = search.search(board, Duration.ofSeconds(1), 3);
+
+        //then
+        assertThat(result.bestMove()).isEqualTo(Move.NONE);
+        assertThat(result.score()).isZero();
+    }
+}
@@ -0,0 +1,87 @@
+package com.chess.chess.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TranspositionTableTest {
+
+    @Test
+    public void storedEntryIsReturnedByProbe() {
+        //given
+        TranspositionTable table = new TranspositionTable(1);
+        long key = 0x1234_5678_9ABC_DEF0L;
+
+        //when
+        table.store(key, 0x0ABC, -1234, 7, TranspositionTable.BOUND_LOWER);
+        long entry = table.probe(key);
+
+        //then
+        assertThat(TranspositionTable.move(entry)).isEqualTo(0x0ABC);
+        assertThat(TranspositionTable.score(entry)).isEqualTo(-1234);
+        assertThat(TranspositionTable.depth(entry)).isEqualTo(7);
+        assertThat(TranspositionTable.bound(entry)).isEqualTo(TranspositionTable.BOUND_LOWER);
+        assertThat(table.probe(key + 1)).isZero();
+        assertThat(table.statistics().hits()).isEqualTo(1);
+        assertThat(table.statistics().misses()).isEqualTo(1);
+    }
+
+    @Test
+    public void staleEntriesAreReplacedBeforeDeepCurrentOnes() {
+        //given
+        TranspositionTable table = new TranspositionTable(1);
+        long bucketKey = 0x0000_0001_0000_0000L;
+        table.store(bucketKey, 1, 0, 1, TranspositionTable.BOUND_EXACT);
+        table.newSearch();
+        table.store(bucketKey + 1, 2, 0, 20, TranspositionTable.BOUND_EXACT);
+        table.store(bucketKey + 2, 3, 0, 20, TranspositionTable.BOUND_EXACT);
+        table.store(bucketKey + 3, 4, 0, 20, TranspositionTable.BOUND_EXACT);
+
+        //when
+        table.store(bucketKey + 4, 5, 0, 2, TranspositionTable.BOUND_EXACT);
+
+        //then
+        assertThat(table.probe(bucketKey)).isZero();
+        assertThat(table.probe(bucketKey + 3)).isNotZero();
+        assertThat(table.probe(bucketKey + 4)).isNotZero();
+        assertThat(table.statistics().collisions()).isEqualTo(1);
+    }
+
+    @Test
+    public void concurrentWritersNeverProduceMismatchedEntries() throws Exception {
+        //given
+        TranspositionTable table = new TranspositionTable(1);
+        AtomicLong mismatches = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        //when
+        Future<?>[] futures = new Future<?>[4];
+        for (int thread = 0; thread < futures.length; thread++) {
+            long seed = thread;
+            futures[thread] = executor.submit(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                for (int i = 0; i < 500_000; i++) {
+                    long key = random.nextLong(4096) * 0x9E37_79B9_7F4A_7C15L;
+                    table.store(key, (int) (key & 0xFFFF), (short) (key >>> 16), 1, TranspositionTable.BOUND_EXACT);
+                    long entry = table.probe(key);
+                    if (entry != 0 && TranspositionTable.move(entry) != (int) (key & 0xFFFF)) {
+                        mismatches.incrementAndGet();
+                    }
+                }
+            });
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        //then
+        assertThat(mismatches.get()).isZero();
+    }
+}
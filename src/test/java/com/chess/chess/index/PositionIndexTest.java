@@ -0,0 +1,149 @@
+package com.chess.chess.index;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.MoveGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PositionIndexTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void findsEveryGameThatReachedAPositionAcrossFlushesAndMerges() throws Exception {
+        //given
+        Map<Long, TreeSet<Integer>> expected = new HashMap<>();
+        Board start = Fen.parse(Fen.INITIAL_POSITION);
+        SplittableRandom random = new SplittableRandom(11);
+
+        //when
+        try (PositionIndex index = new PositionIndex(directory, 500, 3)) {
+            for (int gameId = 0; gameId < 300; gameId++) {
+                int[] moves = randomGame(start, random, 12);
+                index.addGame(gameId, start, moves);
+                Board board = new Board(start);
+                expected.computeIfAbsent(board.getHash(), hash -> new TreeSet<>()).add(gameId);
+                for (int move : moves) {
+                    board.makeMove(move);
+                    expected.computeIfAbsent(board.getHash(), hash -> new TreeSet<>()).add(gameId);
+                }
+            }
+            index.flush();
+            index.awaitMerges();
+
+            //then
+            assertThat(index.segmentCount()).isLessThanOrEqualTo(4);
+            for (Map.Entry<Long, TreeSet<Integer>> entry : expected.entrySet()) {
+                assertThat(index.find(entry.getKey())).
+                        containsExactly(entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+            }
+            assertThat(index.find(42L)).isEmpty();
+        }
+    }
+
+    @Test
+    public void mergesOnlySegmentsOfTheSameSize() throws Exception {
+        try (PositionIndex index = new PositionIndex(directory, 100, 3)) {
+            //given
+            addFlushes(index, 0, 3);
+            index.awaitMerges();
+            assertThat(index.segmentCount()).isEqualTo(1);
+            Path merged = segmentFiles().get(0);
+
+            //when
+            addFlushes(index, 3, 2);
+            index.awaitMerges();
+
+            //then
+            assertThat(index.segmentCount()).isEqualTo(3);
+            assertThat(segmentFiles()).contains(merged);
+            assertThat(index.find(0)).containsExactly(0, 1, 2, 3, 4);
+        }
+    }
+
+    @Test
+    public void failedMergeIsReportedOnceAndRetried() throws Exception {
+        try (PositionIndex index = new PositionIndex(directory, 100, 3)) {
+            //given
+            Path blocked = Files.createDirectory(directory.resolve("segment-0000000003.pix.tmp"));
+            addFlushes(index, 0, 3);
+
+            //when
+            boolean failed = false;
+            try {
+                index.awaitMerges();
+            } catch (IOException e) {
+                failed = true;
+            }
+
+            //then
+            assertThat(failed).isTrue();
+            assertThat(blocked).doesNotExist();
+            index.awaitMerges();
+            addFlushes(index, 3, 1);
+            index.awaitMerges();
+            assertThat(index.segmentCount()).isEqualTo(2);
+            assertThat(index.find(0)).containsExactly(0, 1, 2, 3);
+        }
+    }
+
+    @Test
+    public void reopensPersistedSegments() throws Exception {
+        //given
+        try (PositionIndex index = new PositionIndex(directory)) {
+            index.add(7, 123L);
+            index.add(3, 123L);
+            index.add(1_000_000, 456L);
+        }
+
+        //when
+        try (PositionIndex index = new PositionIndex(directory)) {
+            //then
+            assertThat(index.find(123L)).containsExactly(3, 7);
+            assertThat(index.find(456L)).containsExactly(1_000_000);
+            assertThat(index.postingCount()).isEqualTo(3);
+        }
+    }
+
+    private static void addFlushes(PositionIndex index, int firstFlush, int flushes) throws IOException {
+        for (int flush = firstFlush; flush < firstFlush + flushes; flush++) {
+            for (long hash = 0; hash < 100; hash++) {
+                index.add(flush, hash);
+            }
+        }
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".pix")).sorted().toList();
+        }
+    }
+
+    private static int[] randomGame(Board start, SplittableRandom random, int plies) {
+        Board board = new Board(start);
+        int[] legalMoves = new int[MoveGenerator.MAX_MOVES];
+        int[] moves = new int[plies];
+        int played = 0;
+        int legal;
+        while (played < plies && (legal = MoveGenerator.generateLegal(board, legalMoves)) > 0) {
+            moves[played] = legalMoves[random.nextInt(legal)];
+            board.makeMove(moves[played++]);
+        }
+        return Arrays.copyOf(moves, played);
+    }
+}
@@ -0,0 +1,245 @@
+package com.chess.chess.journal;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.BoardSnapshot;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.Move;
+import com.chess.chess.model.MoveGenerator;
+import com.chess.chess.session.GameService;
+import com.chess.chess.session.GameView;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GameJournalTest {
+
+    private static final int SEGMENT_SIZE = 512;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void recordsAreReplayedAcrossSegmentsAfterReopening() throws IOException {
+        //given
+        List<Integer> moves = randomGame(300);
+        try (MoveLog log = new MoveLog(directory, SEGMENT_SIZE, MoveLog.DEFAULT_FLUSH_INTERVAL)) {
+            log.appendCreated(1, Fen.parse(Fen.INITIAL_POSITION));
+            for (int move : moves) {
+                log.appendMove(1, move);
+            }
+            log.appendEnded(1);
+        }
+
+        //when
+        List<String> replayed = new ArrayList<>();
+        try (MoveLog log = new MoveLog(directory, SEGMENT_SIZE, MoveLog.DEFAULT_FLUSH_INTERVAL)) {
+            log.replay(0, recorder(replayed));
+        }
+
+        //then
+        assertThat(segments()).hasSizeGreaterThan(1);
+        assertThat(replayed).hasSize(moves.size() + 2);
+        assertThat(replayed.get(0)).isEqualTo("created 1 " + Fen.INITIAL_POSITION);
+        for (int i = 0; i < moves.size(); i++) {
+            assertThat(replayed.get(i + 1)).isEqualTo("moved 1 " + moves.get(i));
+        }
+        assertThat(replayed.get(moves.size() + 1)).isEqualTo("ended 1");
+    }
+
+    @Test
+    public void tornTailIsDiscardedAndOverwritten() throws IOException {
+        //given
+        long tornRecord;
+        try (MoveLog log = new MoveLog(directory, SEGMENT_SIZE, MoveLog.DEFAULT_FLUSH_INTERVAL)) {
+            log.appendMove(1, 100);
+            tornRecord = log.appendMove(1, 200);
+            log.appendMove(1, 300);
+        }
+        Path segment = segments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), tornRecord - Long.BYTES);
+        }
+
+        //when
+        List<String> replayed = new ArrayList<>();
+        long appended;
+        try (MoveLog log = new MoveLog(directory, SEGMENT_SIZE, MoveLog.DEFAULT_FLUSH_INTERVAL)) {
+            appended = log.appendMove(1, 400);
+            log.replay(0, recorder(replayed));
+        }
+
+        //then
+        assertThat(appended).isEqualTo(tornRecord);
+        assertThat(replayed).containsExactly("moved 1 100", "moved 1 400");
+    }
+
+    @Test
+    public void concurrentWritersShareCommits() throws Exception {
+        //given
+        int writers = 8;
+        int movesPerWriter = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+
+        try (MoveLog log = new MoveLog(directory, MoveLog.DEFAULT_SEGMENT_SIZE, Duration.ofSeconds(1))) {
+            //when
+            List<Future<?>> results = new ArrayList<>();
+            for (int writer = 0; writer < writers; writer++) {
+                long gameId = writer;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < movesPerWriter; i++) {
+                        log.awaitDurable(log.appendMove(gameId, i));
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+            executor.shutdown();
+
+            //then
+            MoveLog.Statistics statistics = log.statistics();
+            assertThat(statistics.records()).isEqualTo(writers * movesPerWriter);
+            assertThat(statistics.commits()).isBetween(1L, statistics.records());
+        }
+    }
+
+    @Test
+    public void recoveryReplaysTheLogWrittenSinceTheLastCheckpoint() throws IOException {
+        //given
+        Board first = Fen.parse(Fen.INITIAL_POSITION);
+        Board second = Fen.parse("4k3/8/8/8/8/8/4P3/4K3 w - - 0 1");
+        List<Integer> firstMoves = randomGame(120);
+        try (GameJournal journal = GameJournal.open(directory, SEGMENT_SIZE, Integer.MAX_VALUE)) {
+            journal.created(1, first);
+            journal.created(2, second);
+            journal.created(3, Fen.parse(Fen.INITIAL_POSITION));
+            int checkpointed = firstMoves.size() / 2;
+            for (int i = 0; i < checkpointed; i++) {
+                first.makeMove(firstMoves.get(i));
+                journal.moved(1, firstMoves.get(i));
+            }
+            long checkpointPosition = journal.moved(2, move(second, "e2e4"));
+            journal.checkpoint(() -> new GameJournal.Checkpoint(3, List.of(
+                    new GameJournal.GameState(1, BoardSnapshot.of(first), checkpointPosition, checkpointed),
+                    new GameJournal.GameState(2, BoardSnapshot.of(second), checkpointPosition, 1),
+                    new GameJournal.GameState(3, BoardSnapshot.of(Fen.parse(Fen.INITIAL_POSITION)),
+                            checkpointPosition, 0))));
+            for (int i = checkpointed; i < firstMoves.size(); i++) {
+                first.makeMove(firstMoves.get(i));
+                journal.moved(1, firstMoves.get(i));
+            }
+            journal.ended(3);
+        }
+
+        //when
+        GameJournal.Recovery recovery;
+        try (GameJournal journal = GameJournal.open(directory, SEGMENT_SIZE, Integer.MAX_VALUE)) {
+            recovery = journal.recover();
+        }
+
+        //then
+        assertThat(recovery.highestGameId()).isEqualTo(3);
+        assertThat(recovery.games()).extracting(GameJournal.RecoveredGame::gameId).containsExactly(1L, 2L);
+        assertThat(Fen.toFen(recovery.games().get(0).board())).isEqualTo(Fen.toFen(first));
+        assertThat(Fen.toFen(recovery.games().get(1).board())).isEqualTo(Fen.toFen(second));
+        assertThat(recovery.games()).extracting(GameJournal.RecoveredGame::ply).containsExactly(firstMoves.size(), 1);
+        assertThat(segments().get(0).getFileName().toString()).isNotEqualTo(String.format("moves-%020d.log", 0));
+    }
+
+    @Test
+    public void plyCountSurvivesACheckpointAndARestart() throws IOException {
+        //given
+        List<Integer> moves = randomGame(30);
+        long id;
+        try (GameJournal journal = GameJournal.open(directory, SEGMENT_SIZE, Integer.MAX_VALUE)) {
+            GameService service = new GameService(1, journal);
+            id = service.create().id();
+            for (int i = 0; i < moves.size(); i++) {
+                if (i == moves.size() / 2) {
+                    service.checkpoint();
+                }
+                service.move(id, Move.toUci(moves.get(i)));
+            }
+        }
+
+        //when
+        GameView recovered;
+        try (GameJournal journal = GameJournal.open(directory, SEGMENT_SIZE, Integer.MAX_VALUE)) {
+            recovered = new GameService(1, journal).get(id);
+        }
+
+        //then
+        assertThat(recovered.ply()).isEqualTo(moves.size());
+    }
+
+    private static int move(Board board, String uci) {
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generateLegal(board, moves);
+        for (int i = 0; i < count; i++) {
+            if (Move.toUci(moves[i]).equals(uci)) {
+                board.makeMove(moves[i]);
+                return moves[i];
+            }
+        }
+        throw new IllegalArgumentException(uci);
+    }
+
+    private static List<Integer> randomGame(int plies) {
+        Board board = Fen.parse(Fen.INITIAL_POSITION);
+        SplittableRandom random = new SplittableRandom(plies);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        List<Integer> game = new ArrayList<>();
+        for (int ply = 0; ply < plies; ply++) {
+            int count = MoveGenerator.generateLegal(board, moves);
+            if (count == 0 || board.getHalfmoveClock() >= 100) {
+                break;
+            }
+            int move = moves[random.nextInt(count)];
+            board.makeMove(move);
+            game.add(move);
+        }
+        return game;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    private static MoveLog.Visitor recorder(List<String> replayed) {
+        return new MoveLog.Visitor() {
+
+            @Override
+            public void created(long gameId, Board board, long position) {
+                replayed.add("created " + gameId + " " + Fen.toFen(board));
+            }
+
+            @Override
+            public void moved(long gameId, int move, long position) {
+                replayed.add("moved " + gameId + " " + move);
+            }
+
+            @Override
+            public void ended(long gameId, long position) {
+                replayed.add("ended " + gameId);
+            }
+        };
+    }
+}
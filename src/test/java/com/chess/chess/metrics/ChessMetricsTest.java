@@ -0,0 +1,112 @@
+package com.chess.chess.metrics;
+
+import com.chess.chess.engine.LazySmpSearch;
+import com.chess.chess.engine.Search;
+import com.chess.chess.engine.TranspositionTable;
+import com.chess.chess.model.Fen;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChessMetricsTest {
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    public void resetCounters() {
+        Instrumentation.reset();
+    }
+
+    @Test
+    public void latenciesAreBucketedByPowerOfTwo() {
+        //given
+        long oneSecond = TimeUnit.SECONDS.toNanos(1);
+
+        //when
+        for (int i = 0; i < 99; i++) {
+            Instrumentation.record(Operation.MOVE_GENERATION, System.nanoTime());
+        }
+        Instrumentation.record(Operation.MOVE_GENERATION, System.nanoTime() - oneSecond);
+
+        //then
+        assertThat(Instrumentation.count(Operation.MOVE_GENERATION)).isEqualTo(100);
+        assertThat(Instrumentation.totalNanos(Operation.MOVE_GENERATION)).isGreaterThanOrEqualTo(1_000_000_000L);
+        assertThat(Instrumentation.percentileNanos(Operation.MOVE_GENERATION, 0.5)).isLessThan(1_000_000L);
+        assertThat(Instrumentation.percentileNanos(Operation.MOVE_GENERATION, 1.0))
+                .isBetween(1_000_000_000L, 2_000_000_000L);
+    }
+
+    @Test
+    public void operationsAndCachesArePublishedToTheRegistry() {
+        //given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try (LazySmpSearch search = new LazySmpSearch(new TranspositionTable(1), 1)) {
+            new ChessMetrics(search).bindTo(registry);
+            search.search(Fen.parse(Fen.INITIAL_POSITION), Duration.ofSeconds(5), 3);
+
+            //when
+            Instrumentation.record(Operation.MOVE, System.nanoTime());
+            Instrumentation.add(Operation.SEARCH_NODE, 42);
+            FunctionTimer moves = registry.get("chess.operation.latency").tag("operation", "move").functionTimer();
+
+            //then
+            assertThat(moves.count()).isEqualTo(1);
+            assertThat(registry.get("chess.operations").tag("operation", "search-node").functionCounter().count())
+                    .isGreaterThanOrEqualTo(42);
+            assertThat(registry.get("chess.operation.latency.percentile").tag("operation", "move")
+                    .tag("quantile", "0.99").gauge().value()).isPositive();
+            assertThat(registry.get("chess.cache.hit.ratio").tag("cache", "pawn").gauge().value()).isPositive();
+            assertThat(registry.get("chess.cache.hit.ratio").tag("cache", "transposition").gauge().value())
+                    .isBetween(0.0, 1.0);
+        }
+    }
+
+    @Test
+    public void cacheMetersDoNotBuildTheEngine() {
+        //given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new ChessMetrics(() -> null).bindTo(registry);
+
+        //when
+        double hitRatio = registry.get("chess.cache.hit.ratio").tag("cache", "transposition").gauge().value();
+        double collisions = registry.get("chess.cache.collisions").tag("cache", "pawn").functionCounter().count();
+
+        //then
+        assertThat(hitRatio).isNaN();
+        assertThat(collisions).isZero();
+    }
+
+    @Test
+    public void searchesAreRecordedAsFlightRecorderEvents() throws Exception {
+        //given
+        Path file = directory.resolve("search.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.chess.Search");
+            recording.start();
+
+            //when
+            new Search().search(Fen.parse(Fen.INITIAL_POSITION), Duration.ofSeconds(5), 3);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        //then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getInt("depth")).isEqualTo(3);
+        assertThat(events.get(0).getLong("nodes")).isPositive();
+    }
+}
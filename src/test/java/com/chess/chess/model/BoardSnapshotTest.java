@@ -0,0 +1,100 @@
+package com.chess.chess.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoardSnapshotTest {
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("com.chess.chess.model.PerftPositions#all")
+    public void snapshotsFollowTheBoardThroughRandomGames(String test, String fen) {
+        //given
+        Board board = Fen.parse(fen);
+        BoardSnapshot snapshot = BoardSnapshot.of(board);
+        SplittableRandom random = new SplittableRandom(test.hashCode());
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+        for (int ply = 0; ply < 200; ply++) {
+            int count = MoveGenerator.generateLegal(board, moves);
+            if (count == 0) {
+                break;
+            }
+            int move = moves[random.nextInt(count)];
+
+            //when
+            board.makeMove(move);
+            snapshot = snapshot.play(move);
+
+            //then
+            assertThat(snapshot.toString()).isEqualTo(Fen.toFen(board));
+            assertThat(snapshot.getHash()).isEqualTo(board.getHash());
+            assertThat(snapshot.getLastMove()).isEqualTo(move);
+            for (Color color : Color.values()) {
+                assertThat(snapshot.occupancy(color)).isEqualTo(board.occupancy(color));
+                for (PieceType type : PieceType.values()) {
+                    assertThat(snapshot.bitboard(color, type)).isEqualTo(board.bitboard(color, type));
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("com.chess.chess.model.PerftPositions#all")
+    public void snapshotConvertsBackToAnEqualBoard(String test, String fen) {
+        //given
+        BoardSnapshot snapshot = BoardSnapshot.of(Fen.parse(fen));
+
+        //when
+        Board board = snapshot.toBoard();
+
+        //then
+        assertThat(Fen.toFen(board)).isEqualTo(fen);
+        assertThat(board.getHash()).isEqualTo(snapshot.getHash());
+        assertThat(snapshot.getLastMove()).isEqualTo(Move.NONE);
+        assertThat(snapshot.getPrevious()).isEmpty();
+    }
+
+    @Test
+    public void variationsShareTheirCommonHistory() {
+        //given
+        BoardSnapshot start = BoardSnapshot.of(Fen.parse(Fen.INITIAL_POSITION));
+        BoardSnapshot e4 = start.play(Move.of(12, 28, Move.DOUBLE_PAWN_PUSH));
+
+        //when
+        BoardSnapshot sicilian = e4.play(Move.of(50, 34, Move.DOUBLE_PAWN_PUSH));
+        BoardSnapshot french = e4.play(Move.of(52, 44, Move.QUIET));
+
+        //then
+        assertThat(sicilian.getPrevious()).containsSame(e4);
+        assertThat(french.getPrevious()).containsSame(e4);
+        assertThat(e4.getPrevious()).containsSame(start);
+        assertThat(start.toString()).isEqualTo(Fen.INITIAL_POSITION);
+        assertThat(e4.toString()).isEqualTo("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1");
+    }
+
+    @Test
+    public void repetitionsAreFoundThroughTheHistory() {
+        //given
+        int[] shuffle = {Move.of(6, 21, Move.QUIET), Move.of(62, 45, Move.QUIET), Move.of(21, 6, Move.QUIET),
+                Move.of(45, 62, Move.QUIET)};
+        BoardSnapshot start = BoardSnapshot.of(Fen.parse(Fen.INITIAL_POSITION));
+        BoardSnapshot snapshot = start;
+
+        //when
+        for (int move : shuffle) {
+            assertThat(snapshot.isRepetition()).isFalse();
+            snapshot = snapshot.play(move);
+        }
+
+        //then
+        assertThat(snapshot.isRepetition()).isTrue();
+        assertThat(snapshot).isEqualTo(start);
+        assertThat(snapshot.hashCode()).isEqualTo(start.hashCode());
+        assertThat(snapshot.getFullmoveNumber()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,310 @@
+package com.chess.chess.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BoardTest {
+
+    @Test
+    public void bitboardsFollowTheMovingPiece() {
+        //given
+        Pawn pawn = new Pawn(Color.WHITE, new Position(4, 2));
+        Board board = new Board(List.of(pawn));
+
+        //when
+        board.move(pawn, new Position(4, 4));
+
+        //then
+        long expected = 1L << new Position(4, 4).square();
+        assertThat(board.bitboard(Color.WHITE, PieceType.PAWN)).isEqualTo(expected);
+        assertThat(board.occupancy(Color.WHITE)).isEqualTo(expected);
+        assertThat(board.occupancy(Color.BLACK)).isZero();
+        assertThat(board.pieceAt(new Position(4, 4).square())).isSameAs(pawn);
+        assertThat(board.pieceAtPosition(new Position(4, 2))).isEmpty();
+    }
+
+    @Test
+    public void capturingClearsTheCapturedPieceFromItsBitboard() {
+        //given
+        Pawn pawn = new Pawn(Color.WHITE, new Position(4, 2));
+        Pawn capturedPawn = new Pawn(Color.BLACK, new Position(5, 3));
+        Board board = new Board(List.of(pawn, capturedPawn));
+
+        //when
+        board.move(pawn, new Position(5, 3));
+
+        //then
+        assertThat(board.bitboard(Color.BLACK, PieceType.PAWN)).isZero();
+        assertThat(board.occupancy()).isEqualTo(1L << new Position(5, 3).square());
+        assertThat(board.isPieceOnBoard(capturedPawn)).isFalse();
+        assertThat(board.isPieceOnBoard(pawn)).isTrue();
+    }
+
+    @Test
+    public void twoPiecesOnOneSquareAreRejected() {
+        List<Piece> pieces = List.of(new Pawn(Color.WHITE, new Position(4, 2)), new Knight(Color.BLACK, new Position(4, 2)));
+
+        assertThatThrownBy(() -> new Board(pieces)).isInstanceOf(InvalidPositionException.class);
+    }
+
+    @Test
+    public void copiesKeepTheRepetitionHistory() {
+        //given
+        Board board = Fen.parse(Fen.INITIAL_POSITION);
+        board.makeMove(Move.of(6, 21, Move.QUIET));
+        board.makeMove(Move.of(62, 45, Move.QUIET));
+        board.makeMove(Move.of(21, 6, Move.QUIET));
+
+        //when
+        Board copy = new Board(board);
+        copy.makeMove(Move.of(45, 62, Move.QUIET));
+
+        //then
+        assertThat(copy.isRepetition()).isTrue();
+        assertThat(copy.getHash()).isEqualTo(Fen.parse(Fen.INITIAL_POSITION).getHash());
+    }
+
+    @Test
+    public void hashIsRestoredWhenThePositionRepeats() {
+        //given
+        Board board = Fen.parse(Fen.INITIAL_POSITION);
+        long initialHash = board.getHash();
+        Piece whiteKnight = board.pieceAtPosition(new Position(7, 1)).orElseThrow();
+        Piece blackKnight = board.pieceAtPosition(new Position(7, 8)).orElseThrow();
+
+        //when
+        board.move(whiteKnight, new Position(6, 3));
+        board.move(blackKnight, new Position(6, 6));
+        board.move(whiteKnight, new Position(7, 1));
+        board.move(blackKnight, new Position(7, 8));
+
+        //then
+        assertThat(board.getHash()).isEqualTo(initialHash);
+    }
+
+    @Test
+    public void hashCoversSideToMoveAndPawnInitialState() {
+        //given
+        Board whiteToMove = Fen.parse("4k3/8/8/8/8/8/4P3/4K3 w - - 0 1");
+        Board blackToMove = Fen.parse("4k3/8/8/8/8/8/4P3/4K3 b - - 0 1");
+        Pawn movedPawn = new Pawn(Color.WHITE, new Position(5, 2));
+        movedPawn.setInInitialPosition(false);
+
+        //when
+        Board initialPawnBoard = new Board(List.of(new Pawn(Color.WHITE, new Position(5, 2))));
+        Board movedPawnBoard = new Board(List.of(movedPawn));
+
+        //then
+        assertThat(whiteToMove.getHash()).isNotEqualTo(blackToMove.getHash());
+        assertThat(initialPawnBoard.getHash()).isNotEqualTo(movedPawnBoard.getHash());
+    }
+
+    @Test
+    public void pawnsOnTheOpponentsStartRankHashLikeParsedPositions() {
+        //given
+        List<Piece> pieces = List.of(new King(Color.WHITE, new Position(5, 1)), new King(Color.BLACK, new Position(5, 8)),
+                new Pawn(Color.WHITE, new Position(1, 7)), new Pawn(Color.BLACK, new Position(8, 2)));
+
+        //when
+        Board board = new Board(pieces);
+
+        //then
+        assertThat(board.getHash()).isEqualTo(Fen.parse("4k3/P7/8/8/8/8/7p/4K3 w - - 0 1").getHash());
+    }
+
+    @Test
+    public void incrementalHashMatchesFullRecomputation() {
+        //given
+        Board board = Fen.parse(PerftPositions.KIWIPETE);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generate(board, moves);
+
+        for (int i = 0; i < count; i++) {
+            //when
+            board.makeMove(moves[i]);
+
+            //then
+            assertThat(board.getHash()).as(Move.toUci(moves[i])).isEqualTo(Zobrist.hash(board));
+            board.unmakeMove();
+        }
+    }
+
+    @Test
+    public void pawnHashOnlyChangesWhenPawnsDo() {
+        //given
+        Board board = Fen.parse(PerftPositions.KIWIPETE);
+        long pawnHash = board.getPawnHash();
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generate(board, moves);
+
+        for (int i = 0; i < count; i++) {
+            //when
+            boolean touchesPawns = board.pieceAt(Move.from(moves[i])).getType() == PieceType.PAWN ||
+                    (Move.isCapture(moves[i]) && board.pieceAt(Move.to(moves[i])) != null &&
+                            board.pieceAt(Move.to(moves[i])).getType() == PieceType.PAWN);
+            board.makeMove(moves[i]);
+
+            //then
+            assertThat(board.getPawnHash()).as(Move.toUci(moves[i])).isEqualTo(Zobrist.pawnHash(board));
+            assertThat(board.getPawnHash() == pawnHash).as(Move.toUci(moves[i])).isNotEqualTo(touchesPawns);
+            board.unmakeMove();
+        }
+        assertThat(board.getPawnHash()).isEqualTo(pawnHash);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("com.chess.chess.model.PerftPositions#all")
+    public void unmakeMoveRestoresThePreviousPosition(String test, String fen) {
+        //given
+        Board board = Fen.parse(fen);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generate(board, moves);
+        Piece[] pieces = new Piece[Board.SQUARES];
+        long[] occupancy = {board.occupancy(Color.WHITE), board.occupancy(Color.BLACK)};
+        long hash = board.getHash();
+        for (int square = 0; square < Board.SQUARES; square++) {
+            pieces[square] = board.pieceAt(square);
+        }
+
+        for (int i = 0; i < count; i++) {
+            //when
+            board.makeMove(moves[i]);
+            board.unmakeMove();
+
+            //then
+            assertThat(board.getHash()).as(Move.toUci(moves[i])).isEqualTo(hash);
+            assertThat(board.occupancy(Color.WHITE)).isEqualTo(occupancy[0]);
+            assertThat(board.occupancy(Color.BLACK)).isEqualTo(occupancy[1]);
+            for (int square = 0; square < Board.SQUARES; square++) {
+                assertThat(board.pieceAt(square)).isSameAs(pieces[square]);
+            }
+        }
+        assertThat(board.getPly()).isZero();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("rejectedMoves")
+    public void tryMoveReportsWhyAMoveIsRejectedWithoutChangingTheBoard(String test, Position from, Position to,
+                                                                        int expectedStatus) {
+        //given
+        Board board = Fen.parse(Fen.INITIAL_POSITION);
+        Piece piece = board.pieceAtPosition(from).orElseThrow();
+        long hash = board.getHash();
+
+        //when
+        int status = board.tryMove(piece, to);
+
+        //then
+        assertThat(MoveStatus.name(status)).isEqualTo(MoveStatus.name(expectedStatus));
+        assertThat(board.isLegal(piece, to)).isFalse();
+        assertThat(board.getHash()).isEqualTo(hash);
+        assertThat(board.pieceAtPosition(from)).contains(piece);
+    }
+
+    private static Stream<Arguments> rejectedMoves() {
+        return Stream.of(
+                Arguments.of("outOfBoard", new Position(2, 1), new Position(0, 3), MoveStatus.OUT_OF_BOARD),
+                Arguments.of("unreachable", new Position(2, 1), new Position(2, 3), MoveStatus.UNREACHABLE),
+                Arguments.of("ownPiece", new Position(2, 1), new Position(4, 2), MoveStatus.OCCUPIED_BY_OWN_PIECE),
+                Arguments.of("slidingBlocked", new Position(3, 1), new Position(5, 3), MoveStatus.UNREACHABLE),
+                Arguments.of("pawnNothingToCapture", new Position(5, 2), new Position(6, 3),
+                        MoveStatus.NOTHING_TO_CAPTURE)
+        );
+    }
+
+    @Test
+    public void tryMoveRejectsAPieceThatIsNotOnTheBoard() {
+        //given
+        Board board = Fen.parse(Fen.INITIAL_POSITION);
+        Knight knight = new Knight(Color.WHITE, new Position(4, 4));
+
+        //when
+        int status = board.tryMove(knight, new Position(6, 5));
+
+        //then
+        assertThat(status).isEqualTo(MoveStatus.PIECE_NOT_ON_BOARD);
+    }
+
+    @Test
+    public void movingAPinnedPieceLeavesTheKingInCheck() {
+        //given
+        Board board = Fen.parse("4r1k1/8/8/8/8/8/4N3/4K3 w - - 0 1");
+        Piece knight = board.pieceAtPosition(new Position(5, 2)).orElseThrow();
+
+        //when
+        int status = board.tryMove(knight, new Position(4, 4));
+
+        //then
+        assertThat(status).isEqualTo(MoveStatus.LEAVES_KING_IN_CHECK);
+        assertThat(board.pieceAtPosition(new Position(5, 2))).contains(knight);
+    }
+
+    @Test
+    public void kingMovingTwoSquaresCastlesTheRook() {
+        //given
+        Board board = Fen.parse("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1");
+        Piece king = board.pieceAtPosition(new Position(5, 1)).orElseThrow();
+        Piece rook = board.pieceAtPosition(new Position(8, 1)).orElseThrow();
+
+        //when
+        board.move(king, new Position(7, 1));
+
+        //then
+        assertThat(board.pieceAtPosition(new Position(7, 1))).contains(king);
+        assertThat(board.pieceAtPosition(new Position(6, 1))).contains(rook);
+        assertThat(board.getCastlingRights()).isEqualTo(Board.BLACK_KINGSIDE | Board.BLACK_QUEENSIDE);
+        assertThat(board.getHash()).isEqualTo(Zobrist.hash(board));
+    }
+
+    @Test
+    public void castlingThroughAnAttackedSquareIsRejected() {
+        //given
+        Board board = Fen.parse("4kr2/8/8/8/8/8/8/4K2R w K - 0 1");
+        Piece king = board.pieceAtPosition(new Position(5, 1)).orElseThrow();
+
+        //when
+        int status = board.tryMove(king, new Position(7, 1));
+
+        //then
+        assertThat(status).isEqualTo(MoveStatus.UNREACHABLE);
+    }
+
+    @Test
+    public void pawnCapturesEnPassant() {
+        //given
+        Board board = Fen.parse("4k3/3p4/8/4P3/8/8/8/4K3 b - - 0 1");
+        Piece blackPawn = board.pieceAtPosition(new Position(4, 7)).orElseThrow();
+        Piece whitePawn = board.pieceAtPosition(new Position(5, 5)).orElseThrow();
+        board.move(blackPawn, new Position(4, 5));
+
+        //when
+        board.move(whitePawn, new Position(4, 6));
+
+        //then
+        assertThat(board.isPieceOnBoard(blackPawn)).isFalse();
+        assertThat(board.pieceAtPosition(new Position(4, 6))).contains(whitePawn);
+        assertThat(board.getHash()).isEqualTo(Zobrist.hash(board));
+    }
+
+    @Test
+    public void pawnReachingTheLastRankPromotesToAQueen() {
+        //given
+        Pawn pawn = new Pawn(Color.WHITE, new Position(1, 7));
+        Board board = new Board(List.of(pawn));
+
+        //when
+        board.move(pawn, new Position(1, 8));
+
+        //then
+        assertThat(board.pieceAtPosition(new Position(1, 8)).map(Piece::getType)).contains(PieceType.QUEEN);
+        assertThat(board.bitboard(Color.WHITE, PieceType.PAWN)).isZero();
+    }
+}
@@ -0,0 +1,47 @@
+package com.chess.chess.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FenTest {
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("com.chess.chess.model.PerftPositions#all")
+    public void serializingAParsedPositionGivesTheSameFen(String test, String fen) {
+        //when
+        String serialized = Fen.toFen(Fen.parse(fen));
+
+        //then
+        assertThat(serialized).isEqualTo(fen);
+    }
+
+    @Test
+    public void movesUpdateEnPassantSquareAndCounters() {
+        //given
+        Board board = Fen.parse(Fen.INITIAL_POSITION);
+
+        //when
+        board.makeMove(Move.of(12, 28, Move.DOUBLE_PAWN_PUSH));
+        board.makeMove(Move.of(62, 45, Move.QUIET));
+
+        //then
+        assertThat(Fen.toFen(board)).isEqualTo("rnbqkb1r/pppppppp/5n2/8/4P3/8/PPPP1PPP/RNBQKBNR w KQkq - 1 2");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP w KQkq - 0 1",
+            "rnbqkbnr/pppppppp/9/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR x KQkq - 0 1",
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq z9 0 1"
+    })
+    public void invalidFenIsRejected(String fen) {
+        assertThatThrownBy(() -> Fen.parse(fen)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
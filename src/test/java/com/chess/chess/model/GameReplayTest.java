@@ -0,0 +1,129 @@
+package com.chess.chess.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GameReplayTest {
+
+    private static final int GAMES = 200;
+    private static final int PLIES = 60;
+
+    private final Board start = Fen.parse(Fen.INITIAL_POSITION);
+    private final int[] gameOffsets = new int[GAMES + 1];
+    private final int[] moves = randomGames(new SplittableRandom(7));
+
+    @Test
+    public void randomlyPlayedGamesAreValidAndLeaveTheStartUntouched() {
+        //given
+        long hash = start.getHash();
+
+        //when
+        ReplayResult result = GameReplay.replay(start, moves, gameOffsets, new ForkJoinPool(4));
+
+        //then
+        assertThat(result.games()).isEqualTo(GAMES);
+        assertThat(Arrays.stream(result.statuses())).containsOnly(MoveStatus.LEGAL);
+        assertThat(Arrays.stream(result.firstIllegalMoves())).containsOnly(ReplayResult.NO_ILLEGAL_MOVE);
+        assertThat(start.getHash()).isEqualTo(hash);
+    }
+
+    @Test
+    public void reportsTheFirstIllegalMoveOfEachGame() {
+        //given
+        int game = 17;
+        int offset = gameOffsets[game];
+        moves[offset + 5] = moves[offset + 4];
+        moves[gameOffsets[game + 1] + 2] = moves[gameOffsets[game + 1] + 2] | Move.CAPTURE << 12;
+
+        //when
+        ReplayResult result = GameReplay.replay(start, moves, gameOffsets);
+
+        //then
+        assertThat(result.status(game)).isEqualTo(MoveStatus.PIECE_NOT_ON_BOARD);
+        assertThat(result.firstIllegalMove(game)).isEqualTo(5);
+        assertThat(result.status(game + 1)).isEqualTo(MoveStatus.INCONSISTENT_FLAG);
+        assertThat(result.firstIllegalMove(game + 1)).isEqualTo(2);
+        assertThat(result.isValid(game + 2)).isTrue();
+    }
+
+    @Test
+    public void byteBufferInputMatchesThePackedArray() {
+        //given
+        moves[gameOffsets[3] + 1] = Move.of(0, 63, Move.QUIET);
+        ByteBuffer buffer = ByteBuffer.allocate((moves.length + GAMES) * Short.BYTES);
+        for (int game = 0; game < GAMES; game++) {
+            buffer.putShort((short) (gameOffsets[game + 1] - gameOffsets[game]));
+            for (int i = gameOffsets[game]; i < gameOffsets[game + 1]; i++) {
+                buffer.putShort((short) moves[i]);
+            }
+        }
+        buffer.flip();
+
+        //when
+        ReplayResult fromBuffer = GameReplay.replay(start, buffer, ForkJoinPool.commonPool());
+        ReplayResult fromArray = GameReplay.replay(start, moves, gameOffsets);
+
+        //then
+        assertThat(fromBuffer.statuses()).containsExactly(fromArray.statuses());
+        assertThat(fromBuffer.firstIllegalMoves()).containsExactly(fromArray.firstIllegalMoves());
+        assertThat(fromBuffer.isValid(3)).isFalse();
+    }
+
+    @Test
+    public void chunkedInputMatchesThePackedArray() {
+        //given
+        moves[gameOffsets[GAMES - 1] + 1] = Move.of(0, 63, Move.QUIET);
+        ByteBuffer buffer = ByteBuffer.allocate((moves.length + GAMES) * Short.BYTES);
+        int split = 0;
+        for (int game = 0; game < GAMES; game++) {
+            if (game == GAMES / 2) {
+                split = buffer.position();
+            }
+            buffer.putShort((short) (gameOffsets[game + 1] - gameOffsets[game]));
+            for (int i = gameOffsets[game]; i < gameOffsets[game + 1]; i++) {
+                buffer.putShort((short) moves[i]);
+            }
+        }
+        ByteBuffer[] chunks = {buffer.slice(0, split), buffer.slice(split, buffer.position() - split)};
+
+        //when
+        ReplayResult fromChunks = GameReplay.replay(start, chunks, ForkJoinPool.commonPool());
+        ReplayResult fromArray = GameReplay.replay(start, moves, gameOffsets);
+
+        //then
+        assertThat(fromChunks.statuses()).containsExactly(fromArray.statuses());
+        assertThat(fromChunks.firstIllegalMoves()).containsExactly(fromArray.firstIllegalMoves());
+        assertThat(fromChunks.isValid(GAMES - 1)).isFalse();
+    }
+
+    private int[] randomGames(SplittableRandom random) {
+        int[] games = new int[GAMES * PLIES];
+        int[] legalMoves = new int[MoveGenerator.MAX_MOVES];
+        Board board = new Board(start);
+        int count = 0;
+        for (int game = 0; game < GAMES; game++) {
+            int plies = 0;
+            while (plies < PLIES) {
+                int legal = MoveGenerator.generateLegal(board, legalMoves);
+                if (legal == 0) {
+                    break;
+                }
+                int move = legalMoves[random.nextInt(legal)];
+                board.makeMove(move);
+                games[count++] = move;
+                plies++;
+            }
+            for (int i = 0; i < plies; i++) {
+                board.unmakeMove();
+            }
+            gameOffsets[game + 1] = count;
+        }
+        return Arrays.copyOf(games, count);
+    }
+}
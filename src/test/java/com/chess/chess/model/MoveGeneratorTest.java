@@ -0,0 +1,168 @@
+package com.chess.chess.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MoveGeneratorTest {
+
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+    @Test
+    public void initialPositionHasTwentyMoves() {
+        //given
+        Board board = new Board(initialPieces());
+
+        //when
+        int count = MoveGenerator.generate(board, moves);
+
+        //then
+        assertThat(count).isEqualTo(20);
+    }
+
+    @Test
+    public void knightInTheCornerHasTwoMoves() {
+        //given
+        Board board = new Board(List.of(new Knight(Color.WHITE, new Position(1, 1))));
+
+        //when
+        int count = MoveGenerator.generate(board, moves);
+
+        //then
+        assertThat(uciMoves(count)).containsExactlyInAnyOrder("a1b3", "a1c2");
+    }
+
+    @Test
+    public void rookStopsAtBlockersAndCapturesEnemies() {
+        //given
+        Board board = new Board(List.of(
+                new Rook(Color.WHITE, new Position(1, 1)),
+                new Pawn(Color.WHITE, new Position(1, 3)),
+                new Knight(Color.BLACK, new Position(3, 1))));
+
+        //when
+        int count = MoveGenerator.generate(board, moves);
+
+        //then
+        assertThat(uciMoves(count)).containsExactlyInAnyOrder("a1a2", "a1b1", "a1c1", "a3a4");
+        assertThat(Arrays.stream(moves, 0, count).filter(Move::isCapture).mapToObj(Move::toUci)).
+                containsExactly("a1c1");
+    }
+
+    @Test
+    public void pawnOnTheSeventhRankPromotesToEveryPiece() {
+        //given
+        Board board = new Board(List.of(new Pawn(Color.WHITE, new Position(2, 7))));
+
+        //when
+        int count = MoveGenerator.generate(board, moves);
+
+        //then
+        assertThat(uciMoves(count)).containsExactlyInAnyOrder("b7b8q", "b7b8r", "b7b8b", "b7b8n");
+    }
+
+    @Test
+    public void enPassantCaptureIsGenerated() {
+        //given
+        Board board = new Board(List.of(
+                new Pawn(Color.WHITE, new Position(5, 5)),
+                new Pawn(Color.BLACK, new Position(4, 5))));
+        board.setEnPassantSquare(new Position(4, 6).square());
+
+        //when
+        int count = MoveGenerator.generate(board, moves);
+
+        //then
+        assertThat(uciMoves(count)).containsExactlyInAnyOrder("e5e6", "e5d6");
+    }
+
+    @Test
+    public void castlingIsNotAllowedThroughAnAttackedSquare() {
+        //given
+        Board board = new Board(List.of(
+                new King(Color.WHITE, new Position(5, 1)),
+                new Rook(Color.WHITE, new Position(1, 1)),
+                new Rook(Color.WHITE, new Position(8, 1)),
+                new Rook(Color.BLACK, new Position(6, 8))));
+        board.setCastlingRights(Board.WHITE_KINGSIDE | Board.WHITE_QUEENSIDE);
+
+        //when
+        int count = MoveGenerator.generate(board, moves);
+
+        //then
+        assertThat(uciMoves(count)).contains("e1c1").doesNotContain("e1g1");
+    }
+
+    private List<String> uciMoves(int count) {
+        List<String> uciMoves = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            uciMoves.add(Move.toUci(moves[i]));
+        }
+        return uciMoves;
+    }
+
+    private static List<Piece> initialPieces() {
+        List<Piece> pieces = new ArrayList<>();
+        addBackRank(pieces, Color.WHITE, 1);
+        addBackRank(pieces, Color.BLACK, 8);
+        for (int x = 1; x <= Board.SIZE; x++) {
+            pieces.add(new Pawn(Color.WHITE, new Position(x, 2)));
+            pieces.add(new Pawn(Color.BLACK, new Position(x, 7)));
+        }
+        return pieces;
+    }
+
+    private static void addBackRank(List<Piece> pieces, Color color, int y) {
+        pieces.add(new Rook(color, new Position(1, y)));
+        pieces.add(new Knight(color, new Position(2, y)));
+        pieces.add(new Bishop(color, new Position(3, y)));
+        pieces.add(new Queen(color, new Position(4, y)));
+        pieces.add(new King(color, new Position(5, y)));
+        pieces.add(new Bishop(color, new Position(6, y)));
+        pieces.add(new Knight(color, new Position(7, y)));
+        pieces.add(new Rook(color, new Position(8, y)));
+    }
+
+    @Test
+    public void legalMovesOnlyEvadeACheck() {
+        //given
+        Board board = Fen.parse("4k3/8/8/8/8/5n2/8/R3K2R w KQ - 0 1");
+
+        //when
+        int count = MoveGenerator.generateLegal(board, moves);
+
+        //then
+        assertThat(uciMoves(count)).containsExactlyInAnyOrder("e1e2", "e1f2", "e1f1", "e1d1");
+    }
+
+    @Test
+    public void pinnedPieceOnlyMovesAlongThePin() {
+        //given
+        Board board = Fen.parse("4r1k1/8/8/8/8/8/4R3/4K3 w - - 0 1");
+
+        //when
+        int count = MoveGenerator.generateLegal(board, moves);
+
+        //then
+        assertThat(Arrays.stream(moves, 0, count).
+                filter(move -> Move.from(move) == new Position(5, 2).square()).
+                mapToObj(Move::toUci)).
+                containsExactlyInAnyOrder("e2e3", "e2e4", "e2e5", "e2e6", "e2e7", "e2e8");
+    }
+
+    @Test
+    public void enPassantExposingTheKingAlongTheRankIsIllegal() {
+        //given
+        Board board = Fen.parse("8/8/8/K2pP2r/8/8/8/7k w - d6 0 1");
+
+        //when
+        int count = MoveGenerator.generateLegal(board, moves);
+
+        //then
+        assertThat(uciMoves(count)).doesNotContain("e5d6").contains("e5e6");
+    }
+}
@@ -0,0 +1,30 @@
+package com.chess.chess.model;
+
+import org.junit.jupiter.params.provider.Arguments;
+
+import java.util.stream.Stream;
+
+public class PerftPositions {
+
+    public static final String INITIAL = Fen.INITIAL_POSITION;
+    public static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+    public static final String ROOK_ENDGAME = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+    public static final String PROMOTIONS = "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1";
+    public static final String DISCOVERED_CHECKS = "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8";
+    public static final String MIDDLEGAME = "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10";
+
+    public static Stream<Arguments> all() {
+        return Stream.of(
+                Arguments.of("initial", INITIAL, new long[]{20, 400, 8_902, 197_281, 4_865_609, 119_060_324L}),
+                Arguments.of("kiwipete", KIWIPETE, new long[]{48, 2_039, 97_862, 4_085_603, 193_690_690L,
+                        8_031_647_685L}),
+                Arguments.of("rookEndgame", ROOK_ENDGAME, new long[]{14, 191, 2_812, 43_238, 674_624, 11_030_083}),
+                Arguments.of("promotions", PROMOTIONS, new long[]{6, 264, 9_467, 422_333, 15_833_292,
+                        706_045_033L}),
+                Arguments.of("discoveredChecks", DISCOVERED_CHECKS, new long[]{44, 1_486, 62_379, 2_103_487,
+                        89_941_194L}),
+                Arguments.of("middlegame", MIDDLEGAME, new long[]{46, 2_079, 89_890, 3_894_594, 164_075_551L,
+                        6_923_051_137L})
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package com.chess.chess.model;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PerftTest {
+
+    private static final long MAX_NODES = Long.getLong("perft.maxNodes", 500_000);
+
+    @ParameterizedTest(name = "{0} depth {2}")
+    @MethodSource("referenceCounts")
+    public void nodeCountsMatchPublishedValues(String test, String fen, int depth, long expectedNodes) {
+        //given
+        Board board = Fen.parse(fen);
+
+        //when
+        long nodes = Perft.perft(board, depth);
+
+        //then
+        assertThat(nodes).isEqualTo(expectedNodes);
+    }
+
+    private static Stream<Arguments> referenceCounts() {
+        return PerftPositions.all().flatMap(arguments -> {
+            Object[] values = arguments.get();
+            long[] counts = (long[]) values[2];
+            return LongStream.range(0, counts.length).
+                    filter(i -> counts[(int) i] <= MAX_NODES).
+                    mapToObj(i -> Arguments.of(values[0], values[1], (int) i + 1, counts[(int) i]));
+        });
+    }
+}
@@ -0,0 +1,65 @@
+package com.chess.chess.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PositionCodecTest {
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("com.chess.chess.model.PerftPositions#all")
+    public void decodingAnEncodedPositionRestoresIt(String test, String fen) {
+        //given
+        Board board = Fen.parse(fen);
+        ByteBuffer buffer = ByteBuffer.allocate(2 * PositionCodec.RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        //when
+        PositionCodec.encode(board, buffer, PositionCodec.RECORD_SIZE);
+        Board decoded = PositionCodec.decode(buffer, PositionCodec.RECORD_SIZE);
+
+        //then
+        assertThat(Fen.toFen(decoded)).isEqualTo(fen);
+        assertThat(decoded.getHash()).isEqualTo(board.getHash());
+        assertThat(PositionCodec.hash(buffer, PositionCodec.RECORD_SIZE)).isEqualTo(board.getHash());
+    }
+
+    @Test
+    public void positionFileIsReadBackThroughACursor(@TempDir Path directory) throws IOException {
+        //given
+        List<Board> boards = new ArrayList<>();
+        PerftPositions.all().forEach(arguments -> boards.add(Fen.parse((String) arguments.get()[1])));
+        Path path = directory.resolve("positions.bin");
+
+        //when
+        PositionFile.write(path, boards);
+        PositionFile file = PositionFile.open(path);
+
+        //then
+        assertThat(file.size()).isEqualTo(boards.size());
+        PositionFile.Cursor cursor = file.cursor();
+        for (int i = 0; i < boards.size(); i++) {
+            Board board = boards.get(i);
+            cursor.seek(i);
+            assertThat(cursor.occupancy()).isEqualTo(board.occupancy());
+            assertThat(cursor.sideToMove()).isEqualTo(board.getSideToMove());
+            assertThat(cursor.hash()).isEqualTo(board.getHash());
+            assertThat(Fen.toFen(cursor.toBoard())).isEqualTo(Fen.toFen(board));
+            for (int square = 0; square < Board.SQUARES; square++) {
+                Piece piece = board.pieceAt(square);
+                int expectedCode = piece == null ? PositionCodec.EMPTY :
+                        PositionCodec.pieceCode(piece.getColor(), piece.getType());
+                assertThat(cursor.pieceCodeAt(square)).isEqualTo(expectedCode);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.chess.chess.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PositionTest {
+
+    @Test
+    public void positionsOnTheBoardAreCanonical() {
+        for (Position position : PositionGenerator.allPositions()) {
+            assertThat(Position.of(position.x(), position.y())).
+                    isSameAs(Position.of(position.square())).
+                    isEqualTo(position);
+        }
+    }
+
+    @Test
+    public void squareIndexRunsFromA1ToH8() {
+        assertThat(Position.of(1, 1).square()).isZero();
+        assertThat(Position.of(8, 1).square()).isEqualTo(7);
+        assertThat(Position.of(1, 2).square()).isEqualTo(8);
+        assertThat(Position.of(8, 8).square()).isEqualTo(Board.SQUARES - 1);
+    }
+
+    @Test
+    public void positionsOutOfTheBoardAreRejected() {
+        assertThatThrownBy(() -> Position.of(0, 4)).isInstanceOf(InvalidPositionException.class);
+        assertThatThrownBy(() -> Position.of(4, Board.SIZE + 1)).isInstanceOf(InvalidPositionException.class);
+        assertThatThrownBy(() -> Position.of(Board.SQUARES)).isInstanceOf(InvalidPositionException.class);
+        assertThat(PositionGenerator.positionOutOfLeftLimit().isOnBoard()).isFalse();
+    }
+
+    @Test
+    public void blockedWhitePawnOnTheSeventhRankIsAnInvalidMove() {
+        //given
+        Pawn pawn = new Pawn(Color.WHITE, Position.of(4, 7));
+        Board board = new Board(List.of(pawn, new Pawn(Color.BLACK, Position.of(4, 8))));
+
+        //then
+        assertThatThrownBy(() -> board.move(pawn, Position.of(4, 8))).isInstanceOf(InvalidMoveException.class);
+    }
+}
@@ -0,0 +1,43 @@
+package com.chess.chess.model;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SanTest {
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("sanMoves")
+    public void parsesSanAgainstThePosition(String fen, String san, String expectedUci) {
+        //given
+        Board board = Fen.parse(fen);
+
+        //when
+        int move = San.parse(board, san);
+
+        //then
+        assertThat(move == Move.NONE ? null : Move.toUci(move)).isEqualTo(expectedUci);
+    }
+
+    private static Stream<Arguments> sanMoves() {
+        return Stream.of(
+                Arguments.of(Fen.INITIAL_POSITION, "e4", "e2e4"),
+                Arguments.of(Fen.INITIAL_POSITION, "Nf3", "g1f3"),
+                Arguments.of(Fen.INITIAL_POSITION, "e5", null),
+                Arguments.of("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1", "O-O-O", "e1c1"),
+                Arguments.of("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1", "Rab1", "a1b1"),
+                Arguments.of("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1", "Rd1", "a1d1"),
+                Arguments.of("4k3/8/8/8/8/8/8/R3K2R w K - 0 1", "Rf1+", "h1f1"),
+                Arguments.of("4k3/8/8/8/8/8/8/R6R w - - 0 1", "Re1", null),
+                Arguments.of("4k3/1P6/8/8/8/8/8/4K3 w - - 0 1", "b8=N", "b7b8n"),
+                Arguments.of("2r1k3/1P6/8/8/8/8/8/4K3 w - - 0 1", "bxc8Q+", "b7c8q"),
+                Arguments.of("4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1", "exd6", "e5d6"),
+                Arguments.of("4k3/8/8/8/8/8/4N3/4K2N w - - 0 1", "Ng3", null),
+                Arguments.of("4k3/8/8/8/8/8/4N3/4K2N w - - 0 1", "Nhg3", "h1g3")
+        );
+    }
+}
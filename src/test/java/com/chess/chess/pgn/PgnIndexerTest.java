@@ -0,0 +1,115 @@
+package com.chess.chess.pgn;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.San;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PgnIndexerTest {
+
+    private static final String GAMES = """
+            [Event "Casual"]
+            [White "Fool"]
+            [Black "Müller"]
+            [Result "0-1"]
+
+            1. f3 e5 2. g4 {blunder} (2. e4 Nc6) 2... Qh4# 0-1
+
+            [Event "Casual"]
+            [White "Kasparov"]
+            [Black "Deep Blue"]
+            [Result "1/2-1/2"]
+
+            1.e4 e5 2.Nf3 $1 Nc6 ; a comment
+            3.Bb5 a6 4.O-O Nf6 1/2-1/2
+
+            [Event "Broken"]
+            [White "A"]
+            [Black "B"]
+            [Result "*"]
+
+            1. e4 e4 *
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void indexesEveryGameAndSeeksBackToIt() throws Exception {
+        //given
+        Path pgn = directory.resolve("games.pgn");
+        Path index = directory.resolve("games.idx");
+        Files.writeString(pgn, GAMES, StandardCharsets.UTF_8);
+
+        //when
+        long games = PgnIndexer.index(pgn, index);
+
+        //then
+        GameIndex gameIndex = GameIndex.open(index);
+        assertThat(games).isEqualTo(3);
+        assertThat(gameIndex.size()).isEqualTo(3);
+
+        GameIndexEntry foolsMate = gameIndex.entry(0);
+        assertThat(foolsMate.plies()).isEqualTo(4);
+        assertThat(foolsMate.valid()).isTrue();
+        assertThat(foolsMate.result()).isEqualTo(GameResult.BLACK_WINS);
+        assertThat(foolsMate.black()).isEqualTo("Müller");
+        assertThat(foolsMate.finalHash()).isEqualTo(play("f3", "e5", "g4", "Qh4#").getHash());
+
+        GameIndexEntry ruyLopez = gameIndex.entry(1);
+        assertThat(ruyLopez.plies()).isEqualTo(8);
+        assertThat(ruyLopez.result()).isEqualTo(GameResult.DRAW);
+        try (PgnReader reader = PgnReader.open(pgn, ruyLopez.offset())) {
+            assertThat(reader.next().tag("White")).isEqualTo("Kasparov");
+        }
+
+        GameIndexEntry broken = gameIndex.entry(2);
+        assertThat(broken.valid()).isFalse();
+        assertThat(broken.plies()).isEqualTo(1);
+        assertThat(gameIndex.findByFinalHash(foolsMate.finalHash())).containsExactly(0L);
+    }
+
+    @Test
+    public void gameWithoutMovetextEndsAtTheNextEventTag() throws Exception {
+        //given
+        Path pgn = directory.resolve("forfeit.pgn");
+        Files.writeString(pgn, """
+                [Event "Forfeit"]
+                [White "Absent"]
+                [Result "0-1"]
+
+                [Event "Casual"]
+                [White "Present"]
+
+                1. e4 *
+                """, StandardCharsets.UTF_8);
+
+        //when
+        try (PgnReader reader = PgnReader.open(pgn)) {
+            PgnGame forfeit = reader.next();
+            PgnGame casual = reader.next();
+
+            //then
+            assertThat(forfeit.tag("White")).isEqualTo("Absent");
+            assertThat(forfeit.movetext()).isEmpty();
+            assertThat(casual.tag("White")).isEqualTo("Present");
+            assertThat(casual.movetext()).contains("e4");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    private static Board play(String... moves) {
+        Board board = Fen.parse(Fen.INITIAL_POSITION);
+        for (String move : moves) {
+            board.makeMove(San.parse(board, move));
+        }
+        return board;
+    }
+}
@@ -0,0 +1,160 @@
+package com.chess.chess.session;
+
+import com.chess.chess.journal.GameJournal;
+import com.chess.chess.model.BoardSnapshot;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.Move;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GameServiceTest {
+
+    private static final String[] KNIGHT_SHUFFLE = {"g1f3", "g8f6", "f3g1", "f6g8"};
+
+    private final GameService gameService = new GameService(16);
+
+    @Test
+    public void legalMovesAdvanceTheGameAndIllegalOnesAreRejected() {
+        //given
+        long id = gameService.create().id();
+
+        //when
+        MoveResult legal = gameService.move(id, "e2e4");
+        MoveResult illegal = gameService.move(id, "e2e4");
+
+        //then
+        assertThat(legal.legal()).isTrue();
+        assertThat(legal.game().fen()).isEqualTo("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1");
+        assertThat(illegal.legal()).isFalse();
+        assertThat(illegal.game().ply()).isEqualTo(1);
+    }
+
+    @Test
+    public void checkmateEndsTheGame() {
+        //given
+        long id = gameService.create().id();
+
+        //when
+        for (String move : List.of("f2f3", "e7e5", "g2g4")) {
+            gameService.move(id, move);
+        }
+        MoveResult mate = gameService.move(id, "d8h4");
+
+        //then
+        assertThat(mate.game().status()).isEqualTo(GameStatus.CHECKMATE);
+        assertThat(gameService.move(id, "e1f2").legal()).isFalse();
+    }
+
+    @Test
+    public void publishedPositionsAreNotAffectedByLaterMoves() {
+        //given
+        long id = gameService.create().id();
+        gameService.move(id, "e2e4");
+        BoardSnapshot afterFirstMove = gameService.position(id);
+
+        //when
+        gameService.move(id, "e7e5");
+        BoardSnapshot afterSecondMove = gameService.position(id);
+
+        //then
+        assertThat(afterFirstMove.toString()).isEqualTo("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1");
+        assertThat(afterSecondMove.toString()).isEqualTo(gameService.get(id).fen());
+        assertThat(afterSecondMove.getPrevious()).containsSame(afterFirstMove);
+        assertThat(Move.toUci(afterSecondMove.getLastMove())).isEqualTo("e7e5");
+        assertThat(afterFirstMove.getPrevious().orElseThrow().toString()).isEqualTo(Fen.INITIAL_POSITION);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void journaledGamesSurviveARestart(boolean checkpointBeforeRestart, @TempDir Path directory)
+            throws Exception {
+        //given
+        GameJournal journal = GameJournal.open(directory);
+        GameService before = new GameService(16, journal);
+        long scholarsMate = before.create().id();
+        for (String move : List.of("e2e4", "e7e5", "f1c4", "b8c6", "d1h5", "g8f6", "h5f7")) {
+            before.move(scholarsMate, move);
+        }
+        long deleted = before.create().id();
+        long endgame = before.create("4k3/8/8/8/8/8/4P3/4K3 w - - 0 1").id();
+        before.move(endgame, "e2e4");
+        before.delete(deleted);
+        if (checkpointBeforeRestart) {
+            before.checkpoint();
+            before.move(endgame, "e8d7");
+        }
+        GameView mate = before.get(scholarsMate);
+        GameView ending = before.get(endgame);
+        journal.close();
+
+        //when
+        GameService after = new GameService(16, GameJournal.open(directory));
+
+        //then
+        assertThat(after.size()).isEqualTo(2);
+        assertThat(after.get(scholarsMate).fen()).isEqualTo(mate.fen());
+        assertThat(after.get(scholarsMate).status()).isEqualTo(GameStatus.CHECKMATE);
+        assertThat(after.get(endgame).fen()).isEqualTo(ending.fen());
+        assertThat(after.create().id()).isGreaterThan(endgame);
+        assertThatThrownBy(() -> after.get(deleted)).isInstanceOf(GameNotFoundException.class);
+    }
+
+    @Test
+    public void unknownGamesAreReported() {
+        //when
+        long id = gameService.create().id();
+        gameService.delete(id);
+
+        //then
+        assertThatThrownBy(() -> gameService.get(id)).isInstanceOf(GameNotFoundException.class);
+        assertThatThrownBy(() -> gameService.move(id, "e2e4")).isInstanceOf(GameNotFoundException.class);
+    }
+
+    @Test
+    public void concurrentGamesProgressIndependently() throws Exception {
+        //given
+        int games = 64;
+        int rounds = 50;
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < games; i++) {
+            ids.add(gameService.create().id());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        List<Future<Integer>> results = new ArrayList<>();
+        for (long id : ids) {
+            results.add(executor.submit(() -> {
+                int legalMoves = 0;
+                for (int ply = 0; ply < rounds * KNIGHT_SHUFFLE.length; ply++) {
+                    if (gameService.move(id, KNIGHT_SHUFFLE[ply % KNIGHT_SHUFFLE.length]).legal()) {
+                        legalMoves++;
+                    }
+                }
+                return legalMoves;
+            }));
+        }
+        executor.shutdown();
+
+        //then
+        for (Future<Integer> result : results) {
+            assertThat(result.get()).isEqualTo(rounds * KNIGHT_SHUFFLE.length);
+        }
+        for (long id : ids) {
+            assertThat(gameService.get(id).ply()).isEqualTo(rounds * KNIGHT_SHUFFLE.length);
+        }
+        assertThat(gameService.size()).isEqualTo(games);
+    }
+}
@@ -0,0 +1,24 @@
+package com.chess.chess.session;
+
+import com.chess.chess.model.Fen;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GameSessionTest {
+
+    @Test
+    public void endedGameRefusesMoves() {
+        //given
+        GameSession session = new GameSession(1, Fen.parse(Fen.INITIAL_POSITION));
+        session.end();
+
+        //when
+        MoveResult result = session.play("e2e4");
+
+        //then
+        assertThat(result.legal()).isFalse();
+        assertThat(result.game().status()).isEqualTo(GameStatus.ENDED);
+        assertThat(result.game().ply()).isZero();
+    }
+}
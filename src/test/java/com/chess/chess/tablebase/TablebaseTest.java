@@ -0,0 +1,198 @@
+package com.chess.chess.tablebase;
+
+import com.chess.chess.model.Board;
+import com.chess.chess.model.Fen;
+import com.chess.chess.model.MoveGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TablebaseTest {
+
+    @TempDir
+    static Path directory;
+
+    private static TablebaseGenerator generator;
+    private static Tablebases tablebases;
+
+    @BeforeAll
+    static void generate() throws Exception {
+        generator = new TablebaseGenerator();
+        generator.generate(Material.of("KPK"));
+        generator.write(directory);
+        tablebases = Tablebases.open(directory, 64);
+    }
+
+    @Test
+    public void longestMatesMatchTheKnownValues() {
+        //when
+        int queen = generator.maxPlies(Material.of("KQK"));
+        int rook = generator.maxPlies(Material.of("KRK"));
+
+        //then
+        assertThat(queen).isEqualTo(20);
+        assertThat(rook).isEqualTo(32);
+    }
+
+    @Test
+    public void materialIsNamedWithTheStrongerSideAsWhite() {
+        //when
+        Material material = Material.of("KKP");
+
+        //then
+        assertThat(material.isCanonical()).isFalse();
+        assertThat(material.canonical().name()).isEqualTo("KPK");
+        assertThat(Material.of("KQKR").isCanonical()).isTrue();
+        assertThat(tablebases.contains(material)).isTrue();
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void probesKnownPositions(String fen, Wdl wdl, int pliesToMate) {
+        //given
+        Board board = Fen.parse(fen);
+
+        //when
+        Optional<TablebaseResult> result = tablebases.probe(board);
+
+        //then
+        assertThat(result).contains(new TablebaseResult(wdl, pliesToMate));
+    }
+
+    private static Stream<Arguments> probesKnownPositions() {
+        return Stream.of(
+                Arguments.of("k7/8/1K6/8/8/8/7Q/8 w - - 0 1", Wdl.WIN, 1),
+                Arguments.of("k6Q/8/1K6/8/8/8/8/8 b - - 0 1", Wdl.LOSS, 0),
+                Arguments.of("k7/2Q5/1K6/8/8/8/8/8 b - - 0 1", Wdl.DRAW, 0),
+                Arguments.of("k7/8/8/8/8/8/P7/K7 w - - 0 1", Wdl.DRAW, 0),
+                Arguments.of("4k3/8/8/8/8/8/8/4K3 w - - 0 1", Wdl.DRAW, 0),
+                Arguments.of("8/8/8/8/8/8/6R1/4K2k b - - 0 1", Wdl.DRAW, 0)
+        );
+    }
+
+    @Test
+    public void mirroredPositionsShareTheirTable() {
+        //given
+        Board white = Fen.parse("8/P7/8/8/8/8/8/K6k w - - 0 1");
+        Board black = Fen.parse("k6K/8/8/8/8/8/p7/8 b - - 0 1");
+
+        //when
+        Optional<TablebaseResult> whiteResult = tablebases.probe(white);
+        Optional<TablebaseResult> blackResult = tablebases.probe(black);
+
+        //then
+        assertThat(whiteResult).isPresent();
+        assertThat(whiteResult.get().wdl()).isEqualTo(Wdl.WIN);
+        assertThat(blackResult).isEqualTo(whiteResult);
+    }
+
+    @Test
+    public void everyResultIsConsistentWithTheBestMove() {
+        //given
+        SplittableRandom random = new SplittableRandom(11);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int checked = 0;
+
+        while (checked < 2_000) {
+            Board board = randomPosition(random);
+            Optional<TablebaseResult> result = tablebases.probe(board);
+            if (result.isEmpty()) {
+                continue;
+            }
+
+            //when
+            int count = MoveGenerator.generateLegal(board, moves);
+            TablebaseResult best = null;
+            for (int i = 0; i < count; i++) {
+                board.makeMove(moves[i]);
+                TablebaseResult child = tablebases.probe(withoutEnPassant(board)).orElseThrow();
+                board.unmakeMove();
+                TablebaseResult value = negate(child);
+                if (best == null || isBetter(value, best)) {
+                    best = value;
+                }
+            }
+
+            //then
+            if (count == 0) {
+                Wdl expected = board.isInCheck() ? Wdl.LOSS : Wdl.DRAW;
+                assertThat(result.get()).isEqualTo(new TablebaseResult(expected, 0));
+            } else {
+                assertThat(result.get()).as(Fen.toFen(board)).isEqualTo(best);
+            }
+            checked++;
+        }
+    }
+
+    @Test
+    public void tablesAreStoredCompressed() throws Exception {
+        //when
+        long size = Files.size(directory.resolve("KPK" + TablebaseFile.EXTENSION));
+
+        //then
+        assertThat(size).isLessThan(Material.of("KPK").size() / 4);
+    }
+
+    private static Board randomPosition(SplittableRandom random) {
+        String[] pieces = {"K", "k", "P"};
+        char[][] rows = new char[8][8];
+        for (char[] row : rows) {
+            Arrays.fill(row, '1');
+        }
+        for (String piece : pieces) {
+            int square;
+            do {
+                square = random.nextInt(64);
+            } while (rows[square / 8][square % 8] != '1');
+            rows[square / 8][square % 8] = piece.charAt(0);
+        }
+        StringBuilder fen = new StringBuilder();
+        for (int y = 7; y >= 0; y--) {
+            fen.append(rows[y]);
+            if (y > 0) {
+                fen.append('/');
+            }
+        }
+        fen.append(random.nextBoolean() ? " w" : " b").append(" - - 0 1");
+        return Fen.parse(fen.toString().replaceAll("11111111", "8").replaceAll("1111111", "7")
+                .replaceAll("111111", "6").replaceAll("11111", "5").replaceAll("1111", "4")
+                .replaceAll("111", "3").replaceAll("11", "2"));
+    }
+
+    private static Board withoutEnPassant(Board board) {
+        if (board.getEnPassantSquare() == Board.NO_SQUARE) {
+            return board;
+        }
+        String[] fields = Fen.toFen(board).split(" ");
+        fields[3] = "-";
+        return Fen.parse(String.join(" ", fields));
+    }
+
+    private static TablebaseResult negate(TablebaseResult child) {
+        return switch (child.wdl()) {
+            case WIN -> new TablebaseResult(Wdl.LOSS, child.pliesToMate() + 1);
+            case LOSS -> new TablebaseResult(Wdl.WIN, child.pliesToMate() + 1);
+            case DRAW -> child;
+        };
+    }
+
+    private static boolean isBetter(TablebaseResult candidate, TablebaseResult best) {
+        if (candidate.wdl() != best.wdl()) {
+            return candidate.wdl().ordinal() < best.wdl().ordinal();
+        }
+        return candidate.wdl() == Wdl.WIN ? candidate.pliesToMate() < best.pliesToMate() :
+                candidate.pliesToMate() > best.pliesToMate();
+    }
+}
@@ -0,0 +1,66 @@
+package com.chess.chess.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class GameControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void playsMovesOverHttp() throws Exception {
+        //given
+        String created = mockMvc.perform(post("/games")).
+                andExpect(status().isCreated()).
+                andReturn().getResponse().getContentAsString();
+        long id = Long.parseLong(created.replaceAll(".*\"id\":(\\d+).*", "$1"));
+
+        //when
+        mockMvc.perform(post("/games/{id}/moves", id).
+                        contentType(MediaType.APPLICATION_JSON).
+                        content("{\"move\":\"e2e4\"}")).
+                andExpect(status().isOk()).
+                andExpect(jsonPath("$.ply").value(1));
+
+        //then
+        mockMvc.perform(post("/games/{id}/moves", id).
+                        contentType(MediaType.APPLICATION_JSON).
+                        content("{\"move\":\"e2e4\"}")).
+                andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(get("/games/{id}", id)).
+                andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+        mockMvc.perform(get("/games/{id}", id + 1_000)).
+                andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void rejectsAMissingMove() throws Exception {
+        //given
+        String created = mockMvc.perform(post("/games")).
+                andExpect(status().isCreated()).
+                andReturn().getResponse().getContentAsString();
+        long id = Long.parseLong(created.replaceAll(".*\"id\":(\\d+).*", "$1"));
+
+        //when
+        ResultActions result = mockMvc.perform(post("/games/{id}/moves", id).
+                contentType(MediaType.APPLICATION_JSON).
+                content("{}"));
+
+        //then
+        result.andExpect(status().isUnprocessableEntity()).
+                andExpect(jsonPath("$.ply").value(0));
+    }
+}